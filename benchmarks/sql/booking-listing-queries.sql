@@ -0,0 +1,193 @@
+-- Before/after benchmark for booking listings (GET /bookings, GET /bookings/owner).
+--
+-- Seeds 1M bookings into a scratch schema, then runs the old catch-all OR-chain query and the
+-- per-state queries from BookingStateFilter, first without and then with the indexes from
+-- V2__booking_listing_indexes.sql, and finally a deep page by OFFSET and by keyset seek.
+-- Compare "Execution Time" and the chosen plan per state.
+--
+--   psql -h localhost -U shareit_user -d shareit -f benchmarks/sql/booking-listing-queries.sql > booking-listing-queries.out
+
+\set users 10000
+\set items 50000
+\set bookings 1000000
+\set booker 4242
+\set owner 1717
+\set now '''2026-06-01 12:00:00'''
+
+DROP SCHEMA IF EXISTS booking_bench CASCADE;
+CREATE SCHEMA booking_bench;
+SET search_path = booking_bench;
+
+CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL, email VARCHAR(100) NOT NULL UNIQUE);
+CREATE TABLE items (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL, owner_id BIGINT REFERENCES users (id));
+CREATE TABLE bookings (
+    id                 BIGINT PRIMARY KEY,
+    booking_start_date TIMESTAMP(6) NOT NULL,
+    booking_end_date   TIMESTAMP(6) NOT NULL,
+    item_id            BIGINT REFERENCES items (id),
+    booker_id          BIGINT NOT NULL REFERENCES users (id),
+    status             VARCHAR(255) NOT NULL
+);
+
+INSERT INTO users
+SELECT g, 'user ' || g, 'user' || g || '@bench.local' FROM generate_series(1, :users) g;
+
+INSERT INTO items
+SELECT g, 'item ' || g, 1 + (g % :users) FROM generate_series(1, :items) g;
+
+-- Skewed so the benchmark booker and owner have tens of thousands of rows.
+INSERT INTO bookings
+SELECT g,
+       start_date,
+       start_date + (1 + g % 72) * INTERVAL '1 hour',
+       CASE WHEN g % 20 = 0 THEN :owner - 1 + (g % 5) * :users ELSE 1 + (g % :items) END,
+       CASE WHEN g % 25 = 0 THEN :booker ELSE 1 + (g * 7 % :users) END,
+       (ARRAY ['WAITING', 'APPROVED', 'APPROVED', 'APPROVED', 'REJECTED', 'CANCELLED'])[1 + g % 6]
+FROM (SELECT g, TIMESTAMP '2024-01-01' + (g % 1000000) * INTERVAL '90 seconds' AS start_date
+      FROM generate_series(1, :bookings) g) seed;
+
+ANALYZE;
+
+\echo '=== BEFORE: catch-all OR-chain, no listing indexes ==='
+PREPARE or_chain_booker(TEXT, TIMESTAMP) AS
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker
+  AND ($1 = 'ALL'
+    OR ($1 = 'CURRENT' AND $2 BETWEEN b.booking_start_date AND b.booking_end_date)
+    OR ($1 = 'PAST' AND b.booking_end_date < $2)
+    OR ($1 = 'FUTURE' AND b.booking_start_date > $2)
+    OR ($1 = 'WAITING' AND b.status = 'WAITING')
+    OR ($1 = 'REJECTED' AND b.status = 'REJECTED'))
+ORDER BY b.booking_start_date DESC, b.id DESC
+OFFSET 0 LIMIT 11;
+
+PREPARE or_chain_owner(TEXT, TIMESTAMP) AS
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE i.owner_id = :owner
+  AND ($1 = 'ALL'
+    OR ($1 = 'CURRENT' AND $2 BETWEEN b.booking_start_date AND b.booking_end_date)
+    OR ($1 = 'PAST' AND b.booking_end_date < $2)
+    OR ($1 = 'FUTURE' AND b.booking_start_date > $2)
+    OR ($1 = 'WAITING' AND b.status = 'WAITING')
+    OR ($1 = 'REJECTED' AND b.status = 'REJECTED'))
+ORDER BY b.booking_start_date DESC, b.id DESC
+OFFSET 0 LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_booker('ALL', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_booker('CURRENT', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_booker('PAST', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_booker('FUTURE', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_booker('WAITING', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_booker('REJECTED', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_owner('ALL', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_owner('WAITING', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_owner('PAST', :now);
+
+\echo '=== AFTER: per-state queries with V2 listing indexes ==='
+CREATE INDEX idx_bookings_booker_start ON bookings (booker_id, booking_start_date DESC, id DESC);
+CREATE INDEX idx_bookings_booker_status_start ON bookings (booker_id, status, booking_start_date DESC);
+CREATE INDEX idx_items_owner ON items (owner_id);
+CREATE INDEX idx_bookings_item_start ON bookings (item_id, booking_start_date DESC, id DESC);
+CREATE INDEX idx_bookings_item_status_end ON bookings (item_id, status, booking_end_date);
+ANALYZE;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker AND b.booking_start_date <= :now AND b.booking_end_date >= :now
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker AND b.booking_start_date < :now AND b.booking_end_date < :now
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker AND b.booking_start_date > :now
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker AND b.status = 'WAITING'
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker AND b.status = 'REJECTED'
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE i.owner_id = :owner
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE i.owner_id = :owner AND b.status = 'WAITING'
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE i.owner_id = :owner AND b.booking_start_date < :now AND b.booking_end_date < :now
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+\echo '=== AFTER: catch-all OR-chain with V2 listing indexes, generic plan ==='
+-- pgjdbc switches to a server-side prepared statement after five executions, after which the planner may
+-- use one generic plan for every state
+SET plan_cache_mode = force_generic_plan;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_booker('WAITING', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_booker('PAST', :now);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE or_chain_owner('PAST', :now);
+RESET plan_cache_mode;
+
+\echo '=== AFTER: page 501 of ALL, OFFSET vs keyset seek ==='
+SELECT b.booking_start_date AS seek_start, b.id AS seek_id FROM bookings b
+WHERE b.booker_id = :booker
+ORDER BY b.booking_start_date DESC, b.id DESC OFFSET 4999 LIMIT 1 \gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker
+ORDER BY b.booking_start_date DESC, b.id DESC OFFSET 5000 LIMIT 11;
+
+-- the OR form alone is only a filter: the scan still walks the 5000 skipped entries
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker
+  AND (b.booking_start_date < :'seek_start'
+    OR (b.booking_start_date = :'seek_start' AND b.id < :seek_id))
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+-- the seek predicate as BookingStateQueryRepositoryImpl builds it: the start date bound is an index condition
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE b.booker_id = :booker
+  AND b.booking_start_date <= :'seek_start'
+  AND (b.booking_start_date < :'seek_start'
+    OR (b.booking_start_date = :'seek_start' AND b.id < :seek_id))
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+SELECT b.booking_start_date AS owner_seek_start, b.id AS owner_seek_id
+FROM bookings b JOIN items i ON i.id = b.item_id
+WHERE i.owner_id = :owner
+ORDER BY b.booking_start_date DESC, b.id DESC OFFSET 4999 LIMIT 1 \gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE i.owner_id = :owner
+ORDER BY b.booking_start_date DESC, b.id DESC OFFSET 5000 LIMIT 11;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id JOIN users u ON u.id = b.booker_id
+WHERE i.owner_id = :owner
+  AND b.booking_start_date <= :'owner_seek_start'
+  AND (b.booking_start_date < :'owner_seek_start'
+    OR (b.booking_start_date = :'owner_seek_start' AND b.id < :owner_seek_id))
+ORDER BY b.booking_start_date DESC, b.id DESC LIMIT 11;
+
+DROP SCHEMA booking_bench CASCADE;
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.benchmarks;
+
+import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.comment.model.Comment;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.request.model.Request;
+import ru.practicum.shareit.server.user.entity.User;
+import ru.practicum.shareit.server.user.enums.UserRole;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entities for benchmarks that do not touch the database.
+ */
+final class BenchmarkData {
+    static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("user-" + id);
+        user.setEmail("user-" + id + "@example.com");
+        user.setRole(UserRole.USER);
+        return user;
+    }
+
+    static Item item(long id, User owner) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName("Drill " + id);
+        item.setDescription("Cordless drill with two batteries, item " + id);
+        item.setAvailable(true);
+        item.setOwner(owner);
+        return item;
+    }
+
+    static Booking booking(long id, Item item, User booker, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStatus(status);
+        booking.setBookingStartDate(NOW.plusDays(id % 30 + 2));
+        booking.setBookingEndDate(NOW.plusDays(id % 30 + 4));
+        booking.setCreated(NOW);
+        return booking;
+    }
+
+    static Comment comment(long id, Item item, User author) {
+        return Comment.builder()
+                .id(id)
+                .text("Works fine, comment " + id)
+                .item(item)
+                .author(author)
+                .created(NOW.minusHours(id))
+                .build();
+    }
+
+    static Request request(long id, User requester, int items) {
+        List<Item> answers = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            Item item = item(id * 100 + i, user(id * 100 + i));
+            answers.add(item);
+        }
+
+        return Request.builder()
+                .id(id)
+                .description("Need a drill for the weekend")
+                .requester(requester)
+                .createdAt(Instant.parse("2030-01-01T12:00:00Z"))
+                .items(answers)
+                .build();
+    }
+}
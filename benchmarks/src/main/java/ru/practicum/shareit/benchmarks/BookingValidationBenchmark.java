@@ -0,0 +1,63 @@
+package ru.practicum.shareit.benchmarks;
+
+import jakarta.validation.ValidationException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.booking.service.util.BookingServiceUtils;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.user.entity.User;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingValidationBenchmark {
+    private User owner;
+    private User booker;
+    private Item item;
+    private BookingCreateDto createDto;
+    private Booking waiting;
+
+    @Setup
+    public void setUp() {
+        owner = BenchmarkData.user(1);
+        booker = BenchmarkData.user(2);
+        item = BenchmarkData.item(1, owner);
+        waiting = BenchmarkData.booking(1, item, booker, BookingStatus.WAITING);
+        createDto = new BookingCreateDto(item.getId(), waiting.getBookingStartDate(), waiting.getBookingEndDate());
+    }
+
+    @Benchmark
+    public void bookingRules() {
+        BookingServiceUtils.validateBookingRules(booker.getId(), item, createDto);
+    }
+
+    @Benchmark
+    public void cancellationRules() {
+        BookingServiceUtils.validateCancellationRules(waiting, booker.getId());
+    }
+
+    @Benchmark
+    public void decisionRules() {
+        BookingServiceUtils.validateDecisionRules(waiting);
+    }
+
+    /**
+     * Rejected path: the cost is dominated by building the exception.
+     */
+    @Benchmark
+    public void ownItemRejected(Blackhole blackhole) {
+        try {
+            BookingServiceUtils.validateBookingRules(owner.getId(), item, createDto);
+        } catch (ValidationException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package ru.practicum.shareit.benchmarks;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.server.ShareItServer;
+import ru.practicum.shareit.server.comment.model.Comment;
+import ru.practicum.shareit.server.comment.repository.CommentRepository;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+import ru.practicum.shareit.server.user.dto.UserCreateDto;
+import ru.practicum.shareit.server.user.entity.User;
+import ru.practicum.shareit.server.user.enums.UserRole;
+import ru.practicum.shareit.server.user.repository.UserRepository;
+import ru.practicum.shareit.server.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts of {@code rows} items or comments in one {@code saveAll} transaction, scored in rows per second.
+ * {@code batchSize=1} turns JDBC batching off while ids still come from the pooled sequences.
+ * {@code insertIdentityItems} persists the same items through {@link IdentityItem}, mapped with the identity id
+ * used before V5, as the baseline: Hibernate sends those inserts one by one whatever the batch size.
+ * <p>
+ * In-memory H2 has no round-trip per statement, which is what batching saves; point {@code jdbcUrl},
+ * {@code username} and {@code password} at an empty PostgreSQL database to measure that. Every trial truncates
+ * the tables it inserts into there, so use a database of its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+    private static final int ROWS = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"jdbc:h2:mem:bulk-insert;DB_CLOSE_DELAY=-1;MODE=PostgreSQL"})
+    private String jdbcUrl;
+
+    @Param({"sa"})
+    private String username;
+
+    @Param({""})
+    private String password;
+
+    private ConfigurableApplicationContext context;
+    private ItemRepository itemRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private CommentRepository commentRepository;
+    private User owner;
+    private User author;
+    private Item commentedItem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class, IdentityEntities.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=" + jdbcUrl,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password,
+                        // driver and dialect are detected from the URL
+                        "--spring.datasource.driver-class-name=",
+                        "--spring.jpa.properties.hibernate.dialect=",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor},"
+                                + "classpath:db/benchmark,classpath:db/benchmark-vendor/{vendor}",
+                        "--logging.level.ru.practicum.shareit=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+
+        itemRepository = context.getBean(ItemRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        UserService userService = context.getBean(UserService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        // a PostgreSQL database outlives the trial, so every trial brings its own users
+        String trial = Long.toString(System.currentTimeMillis(), 36);
+        owner = userRepository.getReferenceById(userService.createUser(
+                new UserCreateDto("owner", "secret", "owner-" + trial + "@example.com", UserRole.USER)).id());
+        author = userRepository.getReferenceById(userService.createUser(
+                new UserCreateDto("author", "secret", "author-" + trial + "@example.com", UserRole.USER)).id());
+        commentedItem = itemRepository.save(item(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            // the next fork starts on empty tables instead of loading this trial's rows into the search engine
+            context.getBean(JdbcTemplate.class).execute("TRUNCATE bookings, comments, items, identity_items");
+        }
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Item> insertItems() {
+        List<Item> items = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            items.add(item(i));
+        }
+        return itemRepository.saveAll(items);
+    }
+
+    /**
+     * What {@code saveAll} does for new entities: one persist per row in a single transaction.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<IdentityItem> insertIdentityItems() {
+        return transactionTemplate.execute(status -> {
+            List<IdentityItem> items = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                IdentityItem item = new IdentityItem("Drill " + i, "Drill " + i + " in good condition", true, owner);
+                entityManager.persist(item);
+                items.add(item);
+            }
+            return items;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Comment> insertComments() {
+        List<Comment> comments = new ArrayList<>(ROWS);
+        LocalDateTime created = LocalDateTime.now();
+        for (int i = 0; i < ROWS; i++) {
+            comments.add(Comment.builder()
+                    .text("Comment " + i)
+                    .item(commentedItem)
+                    .author(author)
+                    .created(created)
+                    .build());
+        }
+        return commentRepository.saveAll(comments);
+    }
+
+    private Item item(int index) {
+        Item item = new Item();
+        item.setName("Drill " + index);
+        item.setDescription("Drill " + index + " in good condition");
+        item.setAvailable(true);
+        item.setOwner(owner);
+        return item;
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = {ShareItServer.class, IdentityItem.class})
+    static class IdentityEntities {
+    }
+}
@@ -0,0 +1,183 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bursts of concurrent {@code GET /users/1} through the gateway against a stub server that answers after a fixed
+ * latency. The gateway runs as a separate process from its executable jar, once with Tomcat's platform worker pool
+ * and once with virtual threads. The score is the time until the whole burst is answered; with platform threads
+ * a burst larger than the 200 Tomcat workers takes several server round-trips.
+ * <p>
+ * The default bursts sit below and above the worker pool, and the server latency is long enough that the score
+ * is dominated by waiting rather than by CPU: the client, the stub and the gateway share the machine, and with
+ * short latencies a small box measures its own scheduling instead of the thread limit.
+ * <p>
+ * Build the gateway first ({@code mvn -Dbenchmarks clean package -DskipTests}) and run from the repository root,
+ * or point {@code -p gatewayJar=...} at the jar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class GatewayLoadBenchmark {
+    private static final byte[] USER_JSON = "{\"id\":1,\"name\":\"user\",\"email\":\"user@example.com\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"150", "250"})
+    private int concurrency;
+
+    @Param({"2000"})
+    private int serverLatencyMs;
+
+    @Param({"gateway/target/shareit-gateway-0.0.1-SNAPSHOT-exec.jar"})
+    private String gatewayJar;
+
+    private ExecutorService stubExecutor;
+    private HttpServer stub;
+    private Process gateway;
+    private Path gatewayLog;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // the JDK server closes keep-alive connections beyond 200 idle ones, which the gateway pool would then reuse
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(concurrency * 2));
+        stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        stub = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/", this::respond);
+        stub.start();
+
+        int gatewayPort = freePort();
+        gatewayLog = File.createTempFile("gateway-load-", ".log").toPath();
+        gateway = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", gatewayJar,
+                "--server.port=" + gatewayPort,
+                "--shareit-server.url=http://127.0.0.1:" + stub.getAddress().getPort(),
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                // the pool must not be the bottleneck, only the request threads differ between runs
+                "--shareit-server.http-client.max-total=" + concurrency,
+                "--shareit-server.http-client.max-per-route=" + concurrency,
+                // every request of a burst must reach the stub, neither limited, shed nor merged with an identical one
+                "--gateway.rate-limit.enabled=false",
+                "--shareit-server.overload.enabled=false",
+                "--shareit-server.coalesce-reads=false",
+                "--logging.level.ru.practicum.shareit=WARN",
+                "--logging.level.org.springframework.web.client.RestTemplate=WARN")
+                .redirectErrorStream(true)
+                .redirectOutput(gatewayLog.toFile())
+                .start();
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+
+        String baseUrl = "http://127.0.0.1:" + gatewayPort;
+        awaitStarted(URI.create(baseUrl + "/actuator/health"));
+        request = HttpRequest.newBuilder(URI.create(baseUrl + "/users/1"))
+                .header("X-Sharer-User-Id", "1")
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        gateway.destroy();
+        gateway.waitFor(10, TimeUnit.SECONDS);
+        client.close();
+        clientExecutor.shutdownNow();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int succeeded = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            int status = response.join().statusCode();
+            if (status != 200) {
+                throw new IllegalStateException("Gateway answered " + status + ", see " + gatewayLog);
+            }
+            succeeded++;
+        }
+        return succeeded;
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(serverLatencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, USER_JSON.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(USER_JSON);
+        }
+    }
+
+    private void awaitStarted(URI health) throws InterruptedException {
+        HttpRequest probe = HttpRequest.newBuilder(health).timeout(Duration.ofSeconds(1)).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!gateway.isAlive()) {
+                throw new IllegalStateException("Gateway exited with " + gateway.exitValue() + ", see " + gatewayLog);
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException("Gateway did not start in " + STARTUP_TIMEOUT + ", see " + gatewayLog);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.benchmarks;
+
+import jakarta.persistence.*;
+import ru.practicum.shareit.server.user.entity.User;
+
+/**
+ * {@code Item} as it was mapped before V5, with an identity id, so that {@link BulkInsertBenchmark} can measure
+ * the inserts the pooled sequences replaced.
+ */
+@Entity
+@Table(name = "identity_items")
+public class IdentityItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "description", length = 100)
+    private String description;
+
+    private Boolean available;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id")
+    private User owner;
+
+    public IdentityItem() {
+    }
+
+    public IdentityItem(String name, String description, Boolean available, User owner) {
+        this.name = name;
+        this.description = description;
+        this.available = available;
+        this.owner = owner;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.server.booking.index.ItemBookingProjection.BookingDates;
+import ru.practicum.shareit.server.comment.dto.CommentDto;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
+import ru.practicum.shareit.server.comment.mapper.CommentMapper;
+import ru.practicum.shareit.server.comment.mapper.CommentMapperImpl;
+import ru.practicum.shareit.server.item.dto.ItemResponseDto;
+import ru.practicum.shareit.server.item.mapper.ItemMapper;
+import ru.practicum.shareit.server.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.user.entity.User;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO assembly done by {@code ItemServiceImpl.searchItems} and {@code getUserItems} once the items,
+ * comments and booking dates are loaded: one response per item with its comments and booking dates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemAssemblyBenchmark {
+    private final ItemMapper itemMapper = new ItemMapperImpl();
+
+    @Param({"20", "200"})
+    private int items;
+
+    @Param({"0", "10"})
+    private int commentsPerItem;
+
+    private List<Item> itemList;
+    private Map<Long, ItemCommentsDto> commentsByItem;
+    private Map<Long, BookingDates> bookingDatesByItem;
+
+    @Setup
+    public void setUp() {
+        CommentMapper commentMapper = new CommentMapperImpl();
+        User owner = BenchmarkData.user(1);
+        User author = BenchmarkData.user(2);
+
+        itemList = new ArrayList<>(items);
+        commentsByItem = new HashMap<>();
+        bookingDatesByItem = new HashMap<>();
+
+        long commentId = 1;
+        for (long id = 1; id <= items; id++) {
+            Item item = BenchmarkData.item(id, owner);
+            itemList.add(item);
+
+            List<CommentDto> comments = new ArrayList<>(commentsPerItem);
+            for (int i = 0; i < commentsPerItem; i++) {
+                comments.add(commentMapper.toDto(BenchmarkData.comment(commentId++, item, author)));
+            }
+            if (!comments.isEmpty()) {
+                commentsByItem.put(id, new ItemCommentsDto(List.copyOf(comments), comments.size()));
+            }
+
+            if (id % 2 == 0) {
+                bookingDatesByItem.put(id, new BookingDates(BenchmarkData.NOW.minusDays(1),
+                        BenchmarkData.NOW.plusDays(1)));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ItemResponseDto> searchResults() {
+        return itemList.stream()
+                .map(item -> itemMapper.toDto(item,
+                        commentsByItem.getOrDefault(item.getId(), ItemCommentsDto.EMPTY),
+                        BookingDates.EMPTY))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ItemResponseDto> ownerItems() {
+        return itemList.stream()
+                .map(item -> itemMapper.toDto(item,
+                        commentsByItem.getOrDefault(item.getId(), ItemCommentsDto.EMPTY),
+                        bookingDatesByItem.getOrDefault(item.getId(), BookingDates.EMPTY)))
+                .toList();
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.server.ShareItServer;
+import ru.practicum.shareit.server.item.dto.CreateItemDto;
+import ru.practicum.shareit.server.item.service.ItemService;
+import ru.practicum.shareit.server.user.dto.UserCreateDto;
+import ru.practicum.shareit.server.user.enums.UserRole;
+import ru.practicum.shareit.server.user.service.UserService;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second through the server's HTTP stack with the logging profile of the past and the current one.
+ * {@code sync-debug} writes on the request threads with {@code ru.practicum.shareit} and Hibernate's SQL log at
+ * DEBUG and bind parameters at TRACE, which prints the controllers', services' and statements' per-call lines as
+ * the old configuration did; {@code async-info} is the default, one request line per call handed to the background
+ * appender. Console output goes to a temporary file,
+ * so the score includes the cost of writing it but not of a terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final int ITEMS = 100;
+
+    @Param({"sync-debug", "async-info"})
+    private String logging;
+
+    private PrintStream originalOut;
+    private Path logFile;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest[] itemRequests;
+    private HttpRequest ownerItemsRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        originalOut = System.out;
+        logFile = File.createTempFile("logging-benchmark-", ".log").toPath();
+        System.setOut(new PrintStream(new FileOutputStream(logFile.toFile()), true, StandardCharsets.UTF_8));
+
+        boolean sync = logging.equals("sync-debug");
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .logStartupInfo(false)
+                .profiles(sync ? "sync-logging" : "default")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:logging;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--logging.level.ru.practicum.shareit=" + (sync ? "DEBUG" : "INFO"),
+                        "--logging.level.org.hibernate.SQL=" + (sync ? "DEBUG" : "INFO"),
+                        "--logging.level.org.hibernate.orm.jdbc.bind=" + (sync ? "TRACE" : "INFO"));
+
+        UserService userService = context.getBean(UserService.class);
+        ItemService itemService = context.getBean(ItemService.class);
+        Long ownerId = userService.createUser(
+                new UserCreateDto("owner", "secret", "owner@example.com", UserRole.USER)).id();
+
+        String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+        itemRequests = new HttpRequest[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            Long itemId = itemService.createItem(
+                    new CreateItemDto("Drill " + i, "Drill " + i + " in good condition", ownerId, true, null),
+                    ownerId).id();
+            itemRequests[i] = request(baseUrl + "/items/" + itemId, ownerId);
+        }
+        ownerItemsRequest = request(baseUrl + "/items", ownerId);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+        System.out.close();
+        System.setOut(originalOut);
+        System.out.println("Log written to " + logFile);
+    }
+
+    @Benchmark
+    public int getItem(Cursor cursor) throws IOException, InterruptedException {
+        return send(itemRequests[cursor.next(ITEMS)]);
+    }
+
+    @Benchmark
+    public int getOwnerItems() throws IOException, InterruptedException {
+        return send(ownerItemsRequest);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("Server answered " + status + ", see " + logFile);
+        }
+        return status;
+    }
+
+    private static HttpRequest request(String url, Long userId) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("X-Sharer-User-Id", userId.toString())
+                .GET()
+                .build();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        int next(int bound) {
+            position = position + 1 == bound ? 0 : position + 1;
+            return position;
+        }
+    }
+}
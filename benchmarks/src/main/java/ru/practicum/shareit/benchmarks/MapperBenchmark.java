@@ -0,0 +1,83 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.mapper.BookingMapper;
+import ru.practicum.shareit.server.booking.mapper.BookingMapperImpl;
+import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.comment.dto.CommentDto;
+import ru.practicum.shareit.server.comment.mapper.CommentMapper;
+import ru.practicum.shareit.server.comment.mapper.CommentMapperImpl;
+import ru.practicum.shareit.server.comment.model.Comment;
+import ru.practicum.shareit.server.item.dto.ItemResponseDto;
+import ru.practicum.shareit.server.item.mapper.ItemMapper;
+import ru.practicum.shareit.server.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.request.dto.RequestDto;
+import ru.practicum.shareit.server.request.mapper.RequestMapper;
+import ru.practicum.shareit.server.request.mapper.RequestMapperImpl;
+import ru.practicum.shareit.server.request.model.Request;
+import ru.practicum.shareit.server.user.entity.User;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private final BookingMapper bookingMapper = new BookingMapperImpl();
+    private final ItemMapper itemMapper = new ItemMapperImpl();
+    private final RequestMapper requestMapper = new RequestMapperImpl();
+    private final CommentMapper commentMapper = new CommentMapperImpl();
+
+    private Booking booking;
+    private Item item;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        User owner = BenchmarkData.user(1);
+        User booker = BenchmarkData.user(2);
+
+        item = BenchmarkData.item(1, owner);
+        booking = BenchmarkData.booking(1, item, booker, BookingStatus.APPROVED);
+        comment = BenchmarkData.comment(1, item, booker);
+    }
+
+    @Benchmark
+    public BookingResponseDto bookingToDto() {
+        return bookingMapper.toDto(booking);
+    }
+
+    @Benchmark
+    public ItemResponseDto itemToDto() {
+        return itemMapper.toDto(item);
+    }
+
+    @Benchmark
+    public RequestDto requestToDto(RequestState state) {
+        return requestMapper.toDto(state.request);
+    }
+
+    @Benchmark
+    public CommentDto commentToDto() {
+        return commentMapper.toDto(comment);
+    }
+
+    @State(Scope.Benchmark)
+    public static class RequestState {
+        @Param({"0", "10"})
+        private int requestItems;
+
+        private Request request;
+
+        @Setup
+        public void setUp() {
+            request = BenchmarkData.request(1, BenchmarkData.user(2), requestItems);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.gateway.special.ratelimit.RateLimitProperties;
+import ru.practicum.shareit.gateway.special.ratelimit.RateLimiter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accept path of the gateway rate limiter: rule lookup, bucket lookup and the CAS on the bucket. The limits are
+ * high enough that no request is rejected. {@code unlimitedEndpoint} is the floor for an endpoint without a rule,
+ * {@code sameUserContended} has four threads competing for one bucket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+    @Param({"1", "10000"})
+    private int users;
+
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(new RateLimitProperties(true, 100_000, Duration.ofMinutes(10), List.of(
+                new RateLimitProperties.Rule("/items/search", 1_000_000_000, 1e9),
+                new RateLimitProperties.Rule("/bookings/**", 1_000_000_000, 1e9))),
+                new SimpleMeterRegistry());
+        for (int userId = 1; userId <= users; userId++) {
+            rateLimiter.tryAcquire("/bookings/{bookingId}", userId);
+        }
+    }
+
+    @Benchmark
+    public long limitedEndpoint() {
+        return rateLimiter.tryAcquire("/bookings/{bookingId}", nextUser());
+    }
+
+    @Benchmark
+    public long unlimitedEndpoint() {
+        return rateLimiter.tryAcquire("/users/{userId}", nextUser());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long sameUserContended() {
+        return rateLimiter.tryAcquire("/items/search", 1);
+    }
+
+    private long nextUser() {
+        return users == 1 ? 1 : ThreadLocalRandom.current().nextInt(users) + 1;
+    }
+}
@@ -0,0 +1,176 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.server.ShareItServer;
+import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.service.BookingService;
+import ru.practicum.shareit.server.comment.model.Comment;
+import ru.practicum.shareit.server.comment.repository.CommentRepository;
+import ru.practicum.shareit.server.item.dto.CreateItemDto;
+import ru.practicum.shareit.server.item.dto.ItemResponseDto;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+import ru.practicum.shareit.server.item.service.ItemService;
+import ru.practicum.shareit.server.user.dto.UserCreateDto;
+import ru.practicum.shareit.server.user.enums.UserRole;
+import ru.practicum.shareit.server.user.repository.UserRepository;
+import ru.practicum.shareit.server.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end service calls against an embedded H2 database (PostgreSQL mode) with the production
+ * Flyway schema. Data volumes are JMH parameters, e.g. {@code -p items=10000 -p bookingsPerItem=20}.
+ * Owners and bookers are separate halves of the seeded users, so every owner has bookings to list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    private static final String[] PROPERTIES = {
+            "--spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--logging.level.ru.practicum.shareit=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    };
+
+    @Param({"100"})
+    private int users;
+
+    @Param({"1000"})
+    private int items;
+
+    @Param({"5"})
+    private int bookingsPerItem;
+
+    @Param({"10"})
+    private int commentsPerItem;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private BookingService bookingService;
+
+    private final List<Long> ownerIds = new ArrayList<>();
+    private final List<Long> bookerIds = new ArrayList<>();
+    private final List<Long> itemIds = new ArrayList<>();
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(PROPERTIES);
+
+        itemService = context.getBean(ItemService.class);
+        bookingService = context.getBean(BookingService.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemResponseDto getItemAsOwner() {
+        int index = next(itemIds.size());
+        return itemService.getItemById(itemIds.get(index), ownerIds.get(index % ownerIds.size()));
+    }
+
+    @Benchmark
+    public Collection<ItemResponseDto> getOwnerItems() {
+        return itemService.getUserItems(ownerIds.get(next(ownerIds.size())));
+    }
+
+    @Benchmark
+    public Collection<ItemResponseDto> searchItems() {
+        return itemService.searchItems("drill", bookerIds.get(next(bookerIds.size())), 0, 20);
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> getBookerBookings() {
+        return bookingService.getBookingsByBooker(bookerIds.get(next(bookerIds.size())), "ALL", 0, 20);
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> getOwnerFutureBookings() {
+        return bookingService.getBookingsByOwner(ownerIds.get(next(ownerIds.size())), "FUTURE", 0, 20);
+    }
+
+    private int next(int bound) {
+        cursor = cursor + 1 == Integer.MAX_VALUE ? 0 : cursor + 1;
+        return cursor % bound;
+    }
+
+    /**
+     * Goes through the services so that the in-memory indexes see the same writes as in production.
+     * Comments bypass the "booked in the past" rule and are written through the repository.
+     */
+    private void seed() {
+        UserService userService = context.getBean(UserService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+
+        for (int i = 0; i < users; i++) {
+            Long id = userService.createUser(new UserCreateDto("user-" + i, "secret", "user-" + i + "@example.com",
+                    UserRole.USER)).id();
+            (i % 2 == 0 ? ownerIds : bookerIds).add(id);
+        }
+
+        for (int i = 0; i < items; i++) {
+            Long ownerId = ownerIds.get(i % ownerIds.size());
+            String name = (i % 3 == 0 ? "Drill " : "Ladder ") + i;
+            itemIds.add(itemService.createItem(new CreateItemDto(name, name + " in good condition", ownerId, true,
+                    null), ownerId).id());
+        }
+
+        LocalDateTime start = LocalDateTime.now().plusDays(2);
+        for (int i = 0; i < itemIds.size(); i++) {
+            Long itemId = itemIds.get(i);
+            Long ownerId = ownerIds.get(i % ownerIds.size());
+
+            Long firstBookingId = null;
+            for (int b = 0; b < bookingsPerItem; b++) {
+                Long bookerId = bookerIds.get((i + b) % bookerIds.size());
+                LocalDateTime bookingStart = start.plusDays(3L * b);
+                BookingResponseDto booking = bookingService.createBooking(
+                        new BookingCreateDto(itemId, bookingStart, bookingStart.plusDays(2)), bookerId);
+                if (firstBookingId == null) {
+                    firstBookingId = booking.id();
+                }
+            }
+            // approval makes the item unavailable, so only every other item gets one
+            if (firstBookingId != null && i % 2 == 1) {
+                bookingService.manageBooking(ownerId, firstBookingId, true);
+            }
+
+            List<Comment> comments = new ArrayList<>(commentsPerItem);
+            for (int c = 0; c < commentsPerItem; c++) {
+                comments.add(Comment.builder()
+                        .text("Comment " + c + " on item " + itemId)
+                        .item(itemRepository.getReferenceById(itemId))
+                        .author(userRepository.getReferenceById(bookerIds.get((i + c) % bookerIds.size())))
+                        .created(LocalDateTime.now().minusDays(c + 1))
+                        .build());
+            }
+            commentRepository.saveAll(comments);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- The search vector that V3 adds to items on PostgreSQL.
+ALTER TABLE identity_items
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_identity_items_search_vector
+    ON identity_items USING GIN (search_vector);
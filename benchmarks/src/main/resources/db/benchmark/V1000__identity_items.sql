@@ -0,0 +1,15 @@
+-- The items table as it was before V5, with an identity id, for BulkInsertBenchmark's baseline.
+-- Columns and indexes match items, so both benchmarks pay for the same index maintenance.
+CREATE TABLE IF NOT EXISTS identity_items (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(100),
+    available   BOOLEAN,
+    owner_id    BIGINT REFERENCES users (id),
+    request_id  BIGINT REFERENCES requests (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_identity_items_owner
+    ON identity_items (owner_id);
+CREATE INDEX IF NOT EXISTS idx_identity_items_request
+    ON identity_items (request_id);
@@ -4,12 +4,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.gateway.core.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.gateway.core.booking.dto.BookingBatchMode;
 import ru.practicum.shareit.gateway.special.client.BaseClient;
+import ru.practicum.shareit.gateway.special.client.RequestCoalescer;
+import ru.practicum.shareit.gateway.special.client.ResponseCache;
+import ru.practicum.shareit.gateway.special.client.ServerCallGuards;
 import ru.practicum.shareit.gateway.special.utils.PropertyPlaceholders;
 import ru.practicum.shareit.gateway.special.utils.RestTemplateFactory;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -19,14 +28,25 @@ public class BookingClient extends BaseClient {
 
     @Autowired
     public BookingClient(@Value(PropertyPlaceholders.SERVER_URL) String serverUrl,
-                         RestTemplateBuilder builder) {
-        super(RestTemplateFactory.createRestTemplate(serverUrl, API_PREFIX, builder));
+                         RestTemplateBuilder builder,
+                         ClientHttpRequestFactory serverRequestFactory,
+                         ResponseCache responseCache,
+                         RequestCoalescer requestCoalescer,
+                         ServerCallGuards serverCallGuards) {
+        super(RestTemplateFactory.createRestTemplate(serverUrl, API_PREFIX, builder, serverRequestFactory,
+                        serverCallGuards.forClient("bookings")),
+                responseCache, requestCoalescer);
     }
 
     public ResponseEntity<Object> bookItem(long userId, BookItemRequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
+    public ResponseEntity<Object> bookItems(long userId, List<BookItemRequestDto> requestDtos, BookingBatchMode mode) {
+        Map<String, Object> parameters = Map.of("mode", mode);
+        return post("/batch?mode={mode}", userId, parameters, requestDtos);
+    }
+
     public ResponseEntity<Object> approveBooking(long bookingId, Boolean approved, long userId) {
         Map<String, Object> parameters = Map.of("approved", approved);
         return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
@@ -36,25 +56,41 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getOwnerBookings(long userId, String state, int from, int size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getOwnerBookings(long userId, String state, int from, int size,
+                                                   @Nullable String cursor) {
+        return get("/owner" + listQuery(cursor), userId, listParameters(state, from, size, cursor));
     }
 
-    public ResponseEntity<Object> getUserBookings(long userId, String state, int from, int size) {
+    public ResponseEntity<Object> getUserBookings(long userId, String state, int from, int size,
+                                                  @Nullable String cursor) {
+        return get(listQuery(cursor), userId, listParameters(state, from, size, cursor));
+    }
+
+    public ResponseEntity<Object> getFreeSlots(long itemId, LocalDateTime from, LocalDateTime to, long userId) {
         Map<String, Object> parameters = Map.of(
-                "state", state,
                 "from", from,
-                "size", size
+                "to", to
         );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        return get("/items/" + itemId + "/free-slots?from={from}&to={to}", userId, parameters);
     }
 
     public ResponseEntity<Object> cancelBooking(long bookingId, long userId) {
         return patch("/" + bookingId + "/cancel", userId, null, null);
     }
-}
\ No newline at end of file
+
+    private static String listQuery(@Nullable String cursor) {
+        String query = "?state={state}&from={from}&size={size}";
+        return cursor == null ? query : query + "&cursor={cursor}";
+    }
+
+    private static Map<String, Object> listParameters(String state, int from, int size, @Nullable String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+        }
+        return parameters;
+    }
+}
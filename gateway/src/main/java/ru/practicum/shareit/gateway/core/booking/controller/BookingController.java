@@ -1,9 +1,12 @@
 package ru.practicum.shareit.gateway.core.booking.controller;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -13,14 +16,20 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import ru.practicum.shareit.gateway.core.booking.BookingClient;
 import ru.practicum.shareit.gateway.core.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.gateway.core.booking.dto.BookingBatchMode;
 import ru.practicum.shareit.gateway.special.utils.HttpHeaders;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/bookings")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
 public class BookingController {
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final BookingClient bookingClient;
 
     @PostMapping
@@ -28,20 +37,36 @@ public class BookingController {
             @RequestBody @Valid BookItemRequestDto requestDto,
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId) {
 
-        log.info("Gateway: POST /bookings - Creating booking for user: {}, item: {}",
+        log.debug("Gateway: POST /bookings - Creating booking for user: {}, item: {}",
                 userId, requestDto.itemId());
 
         return bookingClient.bookItem(userId, requestDto);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createBookings(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid @NotNull BookItemRequestDto> requestDtos,
+            @RequestParam(defaultValue = "ALL_OR_NOTHING") BookingBatchMode mode,
+            @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Gateway: POST /bookings/batch - Creating {} bookings for user: {}, mode: {}",
+                    requestDtos.size(), userId, mode);
+        }
+
+        return bookingClient.bookItems(userId, requestDtos, mode);
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<Object> approveBooking(
             @PositiveOrZero @PathVariable Long bookingId,
             @RequestParam Boolean approved,
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId) {
 
-        log.info("Gateway: PATCH /bookings/{} - User {} {} booking",
-                bookingId, userId, approved ? "approving" : "rejecting");
+        if (log.isDebugEnabled()) {
+            log.debug("Gateway: PATCH /bookings/{} - User {} {} booking",
+                    bookingId, userId, approved ? "approving" : "rejecting");
+        }
 
         return bookingClient.approveBooking(bookingId, approved, userId);
     }
@@ -51,7 +76,7 @@ public class BookingController {
             @PositiveOrZero @PathVariable Long bookingId,
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId) {
 
-        log.info("Gateway: GET /bookings/{} - Getting booking for user: {}",
+        log.debug("Gateway: GET /bookings/{} - Getting booking for user: {}",
                 bookingId, userId);
 
         return bookingClient.getBooking(bookingId, userId);
@@ -62,12 +87,15 @@ public class BookingController {
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId,
             @NotBlank @NotNull @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(defaultValue = "10") @Positive int size) {
+            @RequestParam(defaultValue = "10") @Positive int size,
+            @RequestParam(required = false) String cursor) {
 
-        log.info("Gateway: GET /bookings/owner - User: {}, state: {}, from: {}, size: {}",
-                userId, state, from, size);
+        if (log.isDebugEnabled()) {
+            log.debug("Gateway: GET /bookings/owner - User: {}, state: {}, from: {}, size: {}, cursor: {}",
+                    userId, state, from, size, cursor);
+        }
 
-        return bookingClient.getOwnerBookings(userId, state, from, size);
+        return bookingClient.getOwnerBookings(userId, state, from, size, cursor);
     }
 
     @GetMapping
@@ -75,12 +103,30 @@ public class BookingController {
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(defaultValue = "10") @Positive int size) {
+            @RequestParam(defaultValue = "10") @Positive int size,
+            @RequestParam(required = false) String cursor) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Gateway: GET /bookings - User: {}, state: {}, from: {}, size: {}, cursor: {}",
+                    userId, state, from, size, cursor);
+        }
+
+        return bookingClient.getUserBookings(userId, state, from, size, cursor);
+    }
+
+    @GetMapping("/items/{itemId}/free-slots")
+    public ResponseEntity<Object> getFreeSlots(
+            @PositiveOrZero @PathVariable Long itemId,
+            @NotNull @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @NotNull @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId) {
 
-        log.info("Gateway: GET /bookings - User: {}, state: {}, from: {}, size: {}",
-                userId, state, from, size);
+        if (log.isDebugEnabled()) {
+            log.debug("Gateway: GET /bookings/items/{}/free-slots - User: {}, from: {}, to: {}",
+                    itemId, userId, from, to);
+        }
 
-        return bookingClient.getUserBookings(userId, state, from, size);
+        return bookingClient.getFreeSlots(itemId, from, to, userId);
     }
 
     @PatchMapping("/{bookingId}/cancel")
@@ -88,7 +134,7 @@ public class BookingController {
             @PositiveOrZero @PathVariable Long bookingId,
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId) {
 
-        log.info("Gateway: PATCH /bookings/{}/cancel - User {} cancelling booking",
+        log.debug("Gateway: PATCH /bookings/{}/cancel - User {} cancelling booking",
                 bookingId, userId);
 
         return bookingClient.cancelBooking(bookingId, userId);
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.gateway.core.booking.dto;
+
+public enum BookingBatchMode {
+    // Ничего не создаётся, если хотя бы одна запись невалидна
+    ALL_OR_NOTHING,
+    // Создаются валидные записи, остальные возвращаются с ошибкой
+    BEST_EFFORT
+}
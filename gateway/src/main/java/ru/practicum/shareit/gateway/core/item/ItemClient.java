@@ -4,14 +4,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.gateway.core.item.dto.comment.CommentRequestDto;
 import ru.practicum.shareit.gateway.core.item.dto.item.CreateItemDto;
 import ru.practicum.shareit.gateway.core.item.dto.item.ItemUpdateDto;
 import ru.practicum.shareit.gateway.special.client.BaseClient;
+import ru.practicum.shareit.gateway.special.client.RequestCoalescer;
+import ru.practicum.shareit.gateway.special.client.ResponseCache;
+import ru.practicum.shareit.gateway.special.client.ServerCallGuards;
 import ru.practicum.shareit.gateway.special.utils.PropertyPlaceholders;
 import ru.practicum.shareit.gateway.special.utils.RestTemplateFactory;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -21,8 +28,14 @@ public class ItemClient extends BaseClient {
 
     @Autowired
     public ItemClient(@Value(PropertyPlaceholders.SERVER_URL) String serverUrl,
-                      RestTemplateBuilder builder) {
-        super(RestTemplateFactory.createRestTemplate(serverUrl, API_PREFIX, builder));
+                      RestTemplateBuilder builder,
+                      ClientHttpRequestFactory serverRequestFactory,
+                      ResponseCache responseCache,
+                      RequestCoalescer requestCoalescer,
+                      ServerCallGuards serverCallGuards) {
+        super(RestTemplateFactory.createRestTemplate(serverUrl, API_PREFIX, builder, serverRequestFactory,
+                        serverCallGuards.forClient("items")),
+                responseCache, requestCoalescer);
     }
 
     public ResponseEntity<Object> getItemById(Long itemId, Long ownerId) {
@@ -37,10 +50,25 @@ public class ItemClient extends BaseClient {
         return post("", ownerId, itemRequestDto);
     }
 
+    public ResponseEntity<Object> importItems(Long ownerId, List<CreateItemDto> items) {
+        return post("/import", ownerId, items);
+    }
+
     public ResponseEntity<Object> createComment(Long itemId, Long userId, CommentRequestDto request) {
         return post("/" + itemId + "/comment", userId, request);
     }
 
+    public ResponseEntity<Object> getItemComments(Long itemId, Long userId, @Nullable String cursor, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/" + itemId + "/comments?size={size}", userId, parameters);
+        }
+
+        parameters.put("cursor", cursor);
+        return get("/" + itemId + "/comments?size={size}&cursor={cursor}", userId, parameters);
+    }
+
     public ResponseEntity<Object> searchItems(String text, Long ownerId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "text", text,
@@ -5,18 +5,25 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import ru.practicum.shareit.gateway.core.item.ItemClient;
 import ru.practicum.shareit.gateway.core.item.dto.comment.CommentRequestDto;
 import ru.practicum.shareit.gateway.core.item.dto.item.CreateItemDto;
 import ru.practicum.shareit.gateway.core.item.dto.item.ItemUpdateDto;
+import ru.practicum.shareit.gateway.core.item.importer.ItemImporter;
 import ru.practicum.shareit.gateway.special.utils.HttpHeaders;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/items")
 @RequiredArgsConstructor
@@ -24,13 +31,14 @@ import ru.practicum.shareit.gateway.special.utils.HttpHeaders;
 @Validated
 public class ItemController {
     private final ItemClient itemClient;
+    private final ItemImporter itemImporter;
 
     @GetMapping("/{itemId}")
     public ResponseEntity<Object> getItemById(
             @PositiveOrZero @PathVariable Long itemId,
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long ownerId) {
 
-        log.info("Gateway: GET /items/{} - Getting item for user: {}", itemId, ownerId);
+        log.debug("Gateway: GET /items/{} - Getting item for user: {}", itemId, ownerId);
         return itemClient.getItemById(itemId, ownerId);
     }
 
@@ -40,7 +48,7 @@ public class ItemController {
             @PositiveOrZero @PathVariable Long itemId,
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId) {
 
-        log.info("Gateway: PATCH /items/{} - Updating item by user: {}", itemId, userId);
+        log.debug("Gateway: PATCH /items/{} - Updating item by user: {}", itemId, userId);
         return itemClient.updateItem(itemId, updateDto, userId);
     }
 
@@ -49,20 +57,49 @@ public class ItemController {
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long ownerId,
             @RequestBody @Valid CreateItemDto itemRequestDto) {
 
-        log.info("Gateway: POST /items - Creating item for user: {}", ownerId);
+        log.debug("Gateway: POST /items - Creating item for user: {}", ownerId);
         return itemClient.createItem(ownerId, itemRequestDto);
     }
 
+    /**
+     * Imports items from a JSON array, or one item per line with {@code Content-Type: application/x-ndjson}.
+     * The body is streamed, see {@link ItemImporter}.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<Object> importItems(
+            @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long ownerId,
+            @Nullable @RequestHeader(value = org.springframework.http.HttpHeaders.CONTENT_TYPE, required = false)
+            MediaType contentType,
+            InputStream body) throws IOException {
+
+        boolean ndjson = contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        log.debug("Gateway: POST /items/import - Importing {} items for user: {}", ndjson ? "NDJSON" : "JSON", ownerId);
+        return itemImporter.importItems(ownerId, body, ndjson);
+    }
+
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<Object> createItemComment(
             @RequestBody @Valid CommentRequestDto request,
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId,
             @PositiveOrZero @PathVariable Long itemId) {
 
-        log.info("Gateway: POST /items/{}/comment - Adding comment by user: {}", itemId, userId);
+        log.debug("Gateway: POST /items/{}/comment - Adding comment by user: {}", itemId, userId);
         return itemClient.createComment(itemId, userId, request);
     }
 
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<Object> getItemComments(
+            @PositiveOrZero @PathVariable Long itemId,
+            @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive int size) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Gateway: GET /items/{}/comments - User: {}, cursor: {}, size: {}", itemId, userId, cursor, size);
+        }
+        return itemClient.getItemComments(itemId, userId, cursor, size);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Object> searchItemsByQuery(
             @RequestParam(required = false, defaultValue = "") String text,
@@ -70,7 +107,7 @@ public class ItemController {
             @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
 
-        log.info("Gateway: GET /items/search?text='{}' by user: {}", text, ownerId);
+        log.debug("Gateway: GET /items/search?text='{}' by user: {}", text, ownerId);
 
         int from = pageable.getPageNumber() * pageable.getPageSize();
         int size = pageable.getPageSize();
@@ -84,8 +121,10 @@ public class ItemController {
             @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC)
             Pageable pageable) {
 
-        log.info("Gateway: GET /items - Getting all items for user: {}, page: {}, size: {}",
-                ownerId, pageable.getPageNumber(), pageable.getPageSize());
+        if (log.isDebugEnabled()) {
+            log.debug("Gateway: GET /items - Getting all items for user: {}, page: {}, size: {}",
+                    ownerId, pageable.getPageNumber(), pageable.getPageSize());
+        }
 
         int from = pageable.getPageNumber() * pageable.getPageSize();
         int size = pageable.getPageSize();
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.gateway.core.item.dto.item;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code rejected} counts every element that was read but not created; {@code errors}
+ * may list fewer when the limit of reported errors was reached.
+ */
+public record ItemImportResultDto(
+        int received,
+        int created,
+        int rejected,
+        List<LineError> errors
+) {
+    /**
+     * @param line  line of the input the element starts on, from 1
+     * @param index position of the element in the input, from 0; {@code null} when the input itself is malformed
+     */
+    public record LineError(int line, Integer index, String error) {
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.gateway.core.item.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.gateway.core.item.ItemClient;
+
+@Configuration
+@EnableConfigurationProperties(ItemImportProperties.class)
+public class ItemImportConfig {
+    @Bean
+    public ItemImporter itemImporter(ItemClient itemClient, ObjectMapper objectMapper, Validator validator,
+                                     ItemImportProperties properties) {
+        return new ItemImporter(itemClient, objectMapper, validator, properties);
+    }
+}
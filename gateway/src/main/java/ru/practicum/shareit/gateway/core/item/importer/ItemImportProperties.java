@@ -0,0 +1,16 @@
+package ru.practicum.shareit.gateway.core.item.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Bulk item import, {@code POST /items/import}.
+ *
+ * @param chunkSize         valid items sent to the server per call; the server creates each chunk in one transaction
+ * @param maxReportedErrors errors listed in the response, further errors are only counted
+ */
+@ConfigurationProperties("gateway.item-import")
+public record ItemImportProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("1000") int maxReportedErrors) {
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.gateway.core.item.importer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.lang.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the elements of a JSON array, or the values of an NDJSON stream, one at a time. Only the current element
+ * is materialized. A syntax error is thrown as {@link com.fasterxml.jackson.core.exc.StreamReadException}: the
+ * parser cannot resume after it, so the rest of the input is lost.
+ */
+class ItemImportReader implements Closeable {
+    private final JsonParser parser;
+    private final boolean ndjson;
+    private boolean started;
+    private int index;
+
+    ItemImportReader(JsonParser parser, boolean ndjson) {
+        this.parser = parser;
+        this.ndjson = ndjson;
+    }
+
+    /**
+     * @return the next element, or {@code null} at the end of the input
+     */
+    @Nullable
+    Element next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (!started) {
+            started = true;
+            if (!ndjson && token != null) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a JSON array of items");
+                }
+                token = parser.nextToken();
+            }
+        }
+        if (token == null || (!ndjson && token == JsonToken.END_ARRAY)) {
+            return null;
+        }
+
+        int line = parser.currentTokenLocation().getLineNr();
+        JsonNode node = parser.readValueAsTree();
+        return new Element(index++, line, node);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * @param index position in the array or stream, from 0
+     * @param line  line the element starts on, from 1
+     */
+    record Element(int index, int line, JsonNode node) {
+    }
+}
@@ -0,0 +1,214 @@
+package ru.practicum.shareit.gateway.core.item.importer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.ResourceAccessException;
+import ru.practicum.shareit.gateway.core.item.ItemClient;
+import ru.practicum.shareit.gateway.core.item.dto.item.CreateItemDto;
+import ru.practicum.shareit.gateway.core.item.dto.item.ItemImportResultDto;
+import ru.practicum.shareit.gateway.core.item.dto.item.ItemImportResultDto.LineError;
+import ru.practicum.shareit.gateway.special.exception.ServerOverloadedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk item import from a JSON array or an NDJSON stream. The body is parsed one element at a time, checked with
+ * the {@link CreateItemDto} constraints, and the valid items are sent to the server in chunks, so memory use
+ * depends on the chunk size rather than on the size of the upload.
+ * <p>
+ * Chunks created before a failure stay created. A malformed body stops the import at the broken element; a server
+ * error on the first chunk is returned as is, on a later chunk it stops the import and is reported per line. After
+ * such a stop the rest of the body is still read, so every element is counted and the unsent ones are rejected.
+ */
+@Slf4j
+public class ItemImporter {
+    private final ItemClient itemClient;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ItemImportProperties properties;
+
+    public ItemImporter(ItemClient itemClient, ObjectMapper objectMapper, Validator validator,
+                        ItemImportProperties properties) {
+        this.itemClient = itemClient;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.properties = properties;
+    }
+
+    /**
+     * 201 when every element was created, 200 when some were or the body broke off, 422 when none were.
+     */
+    public ResponseEntity<Object> importItems(Long ownerId, InputStream body, boolean ndjson) throws IOException {
+        Import run = new Import(ownerId);
+
+        try (ItemImportReader reader = new ItemImportReader(objectMapper.getFactory().createParser(body), ndjson)) {
+            ItemImportReader.Element element;
+            while (run.serverError == null && (element = reader.next()) != null) {
+                run.add(element);
+            }
+        } catch (StreamReadException e) {
+            JsonLocation location = e.getLocation();
+            run.reject(location != null ? location.getLineNr() : 0, null,
+                    "Malformed JSON, import stopped: " + e.getOriginalMessage());
+            run.malformed = true;
+        }
+
+        if (run.serverError == null) {
+            run.flush();
+        }
+        if (run.serverError != null) {
+            return run.serverError;
+        }
+
+        if (run.received == 0 && run.errors.isEmpty()) {
+            run.reject(1, null, "No items in request body");
+        }
+        int rejected = run.received - run.created;
+        HttpStatus status = run.created == 0 ? HttpStatus.UNPROCESSABLE_ENTITY
+                : rejected == 0 && !run.malformed ? HttpStatus.CREATED : HttpStatus.OK;
+
+        log.info("Imported {} of {} items for user {}", run.created, run.received, ownerId);
+        return ResponseEntity.status(status)
+                .body(new ItemImportResultDto(run.received, run.created, rejected, run.errors));
+    }
+
+    @Nullable
+    private String violations(CreateItemDto dto) {
+        Set<ConstraintViolation<CreateItemDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * State of one import call.
+     */
+    private class Import {
+        private final Long ownerId;
+        private final List<CreateItemDto> chunk = new ArrayList<>();
+        private final List<ItemImportReader.Element> chunkElements = new ArrayList<>();
+        private final List<LineError> errors = new ArrayList<>();
+        private int received;
+        private int created;
+        @Nullable
+        private String stopReason;
+        private boolean malformed;
+        private ResponseEntity<Object> serverError;
+
+        Import(Long ownerId) {
+            this.ownerId = ownerId;
+        }
+
+        void add(ItemImportReader.Element element) throws IOException {
+            received++;
+            if (stopReason != null) {
+                reject(element.line(), element.index(), stopReason);
+                return;
+            }
+            if (!element.node().isObject()) {
+                reject(element.line(), element.index(), "Expected a JSON object");
+                return;
+            }
+
+            CreateItemDto dto;
+            try {
+                dto = objectMapper.treeToValue(element.node(), CreateItemDto.class);
+            } catch (JsonProcessingException e) {
+                reject(element.line(), element.index(), e.getOriginalMessage());
+                return;
+            }
+            String violations = violations(dto);
+            if (violations != null) {
+                reject(element.line(), element.index(), violations);
+                return;
+            }
+
+            chunk.add(dto);
+            chunkElements.add(element);
+            if (chunk.size() >= properties.chunkSize()) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            ResponseEntity<Object> response;
+            try {
+                response = itemClient.importItems(ownerId, chunk);
+            } catch (ServerOverloadedException | ResourceAccessException e) {
+                if (created == 0) {
+                    throw e;
+                }
+                stop("Not imported, import stopped: " + e.getMessage());
+                return;
+            }
+
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                if (created == 0) {
+                    // nothing was imported, so the server's answer is the whole story (e.g. an unknown owner)
+                    serverError = response;
+                    return;
+                }
+                stop("Not imported, import stopped: server answered " + response.getStatusCode().value());
+                return;
+            }
+
+            ChunkResult result = objectMapper.readValue((byte[]) response.getBody(), ChunkResult.class);
+            created += result.created();
+            for (ChunkResult.Entry entry : result.results()) {
+                if (entry.error() != null) {
+                    ItemImportReader.Element element = chunkElements.get(entry.index());
+                    reject(element.line(), element.index(), entry.error());
+                }
+            }
+            chunk.clear();
+            chunkElements.clear();
+        }
+
+        void reject(int line, @Nullable Integer index, String error) {
+            if (errors.size() < properties.maxReportedErrors()) {
+                errors.add(new LineError(line, index, error));
+            }
+        }
+
+        private void stop(String reason) {
+            for (ItemImportReader.Element element : chunkElements) {
+                reject(element.line(), element.index(), reason);
+            }
+            chunk.clear();
+            chunkElements.clear();
+            stopReason = reason;
+        }
+    }
+
+    /**
+     * The server's answer for one chunk, entries follow the order of the chunk.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record ChunkResult(int created, List<Entry> results) {
+        @JsonIgnoreProperties(ignoreUnknown = true)
+        private record Entry(int index, String error) {
+        }
+    }
+}
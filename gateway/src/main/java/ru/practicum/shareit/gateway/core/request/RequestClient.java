@@ -4,9 +4,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.gateway.core.request.dto.CreateRequestDto;
 import ru.practicum.shareit.gateway.special.client.BaseClient;
+import ru.practicum.shareit.gateway.special.client.RequestCoalescer;
+import ru.practicum.shareit.gateway.special.client.ResponseCache;
+import ru.practicum.shareit.gateway.special.client.ServerCallGuards;
 import ru.practicum.shareit.gateway.special.utils.PropertyPlaceholders;
 import ru.practicum.shareit.gateway.special.utils.RestTemplateFactory;
 
@@ -19,8 +23,14 @@ public class RequestClient extends BaseClient {
 
     @Autowired
     public RequestClient(@Value(PropertyPlaceholders.SERVER_URL) String serverUrl,
-                         RestTemplateBuilder builder) {
-        super(RestTemplateFactory.createRestTemplate(serverUrl, API_PREFIX, builder));
+                         RestTemplateBuilder builder,
+                         ClientHttpRequestFactory serverRequestFactory,
+                         ResponseCache responseCache,
+                         RequestCoalescer requestCoalescer,
+                         ServerCallGuards serverCallGuards) {
+        super(RestTemplateFactory.createRestTemplate(serverUrl, API_PREFIX, builder, serverRequestFactory,
+                        serverCallGuards.forClient("requests")),
+                responseCache, requestCoalescer);
     }
 
     public ResponseEntity<Object> getUserOwnRequests(Long userId, Integer from, Integer size) {
@@ -29,7 +29,7 @@ public class RequestController {
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable) {
 
-        log.info("Gateway: GET /requests - Getting user's own requests for user: {}", requestorId);
+        log.debug("Gateway: GET /requests - Getting user's own requests for user: {}", requestorId);
 
         int from = pageable.getPageNumber() * pageable.getPageSize();
         int size = pageable.getPageSize();
@@ -43,7 +43,7 @@ public class RequestController {
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable) {
 
-        log.info("Gateway: GET /requests/all - Getting other users' requests for user: {}", requestorId);
+        log.debug("Gateway: GET /requests/all - Getting other users' requests for user: {}", requestorId);
 
         int from = pageable.getPageNumber() * pageable.getPageSize();
         int size = pageable.getPageSize();
@@ -55,7 +55,7 @@ public class RequestController {
     public ResponseEntity<Object> findRequestById(
             @PositiveOrZero @PathVariable Long requestId) {
 
-        log.info("Gateway: GET /requests/{} - Getting request by ID", requestId);
+        log.debug("Gateway: GET /requests/{} - Getting request by ID", requestId);
         return requestClient.getRequestById(requestId);
     }
 
@@ -64,7 +64,7 @@ public class RequestController {
             @PositiveOrZero @RequestHeader(HttpHeaders.SHARER_USER_ID) Long userId,
             @RequestBody @Valid CreateRequestDto requestDto) {
 
-        log.info("Gateway: POST /requests - Creating request for user: {}", userId);
+        log.debug("Gateway: POST /requests - Creating request for user: {}", userId);
         return requestClient.createRequest(userId, requestDto);
     }
 }
\ No newline at end of file
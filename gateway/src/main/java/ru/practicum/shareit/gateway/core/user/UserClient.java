@@ -4,10 +4,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.gateway.core.user.dto.UserCreateDto;
 import ru.practicum.shareit.gateway.core.user.dto.UserUpdateDto;
 import ru.practicum.shareit.gateway.special.client.BaseClient;
+import ru.practicum.shareit.gateway.special.client.RequestCoalescer;
+import ru.practicum.shareit.gateway.special.client.ResponseCache;
+import ru.practicum.shareit.gateway.special.client.ServerCallGuards;
 import ru.practicum.shareit.gateway.special.utils.PropertyPlaceholders;
 import ru.practicum.shareit.gateway.special.utils.RestTemplateFactory;
 
@@ -20,8 +24,14 @@ public class UserClient extends BaseClient {
 
     @Autowired
     public UserClient(@Value(PropertyPlaceholders.SERVER_URL) String serverUrl,
-                      RestTemplateBuilder builder) {
-        super(RestTemplateFactory.createRestTemplate(serverUrl, API_PREFIX, builder));
+                      RestTemplateBuilder builder,
+                      ClientHttpRequestFactory serverRequestFactory,
+                      ResponseCache responseCache,
+                      RequestCoalescer requestCoalescer,
+                      ServerCallGuards serverCallGuards) {
+        super(RestTemplateFactory.createRestTemplate(serverUrl, API_PREFIX, builder, serverRequestFactory,
+                        serverCallGuards.forClient("users")),
+                responseCache, requestCoalescer);
     }
 
     public ResponseEntity<Object> getAllUserItems(Long userId, Integer from, Integer size) {
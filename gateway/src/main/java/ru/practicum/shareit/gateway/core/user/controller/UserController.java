@@ -30,8 +30,10 @@ public class UserController {
             @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC)
             Pageable pageable) {
 
-        log.info("Gateway: GET /users/{}/items - Getting all items for user: {}, page: {}, size: {}",
-                userId, pageable.getPageNumber(), pageable.getPageSize());
+        if (log.isDebugEnabled()) {
+            log.debug("Gateway: GET /users/{}/items - Getting all items for user: {}, page: {}, size: {}",
+                    userId, pageable.getPageNumber(), pageable.getPageSize());
+        }
 
         int from = pageable.getPageNumber() * pageable.getPageSize();
         int size = pageable.getPageSize();
@@ -43,7 +45,7 @@ public class UserController {
     public ResponseEntity<Object> getUserById(
             @PositiveOrZero @PathVariable Long userId) {
 
-        log.info("Gateway: GET /users/{} - Getting user by ID", userId);
+        log.debug("Gateway: GET /users/{} - Getting user by ID", userId);
         return userClient.getUserById(userId);
     }
 
@@ -51,7 +53,7 @@ public class UserController {
     public ResponseEntity<Object> createUser(
             @Valid @RequestBody UserCreateDto userRequestDto) {
 
-        log.info("Gateway: POST /users - Creating new user");
+        log.debug("Gateway: POST /users - Creating new user");
         return userClient.createUser(userRequestDto);
     }
 
@@ -60,7 +62,7 @@ public class UserController {
             @PositiveOrZero @PathVariable Long userId,
             @Valid @RequestBody UserUpdateDto userUpdateDto) {
 
-        log.info("Gateway: PATCH /users/{} - Updating user", userId);
+        log.debug("Gateway: PATCH /users/{} - Updating user", userId);
         return userClient.updateUser(userId, userUpdateDto);
     }
 
@@ -68,7 +70,7 @@ public class UserController {
     public ResponseEntity<Object> deleteUser(
             @PositiveOrZero @PathVariable Long userId) {
 
-        log.info("Gateway: DELETE /users/{} - Deleting user", userId);
+        log.debug("Gateway: DELETE /users/{} - Deleting user", userId);
         return userClient.deleteUser(userId);
     }
 }
\ No newline at end of file
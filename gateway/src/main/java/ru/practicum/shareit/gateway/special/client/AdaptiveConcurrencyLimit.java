@@ -0,0 +1,69 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD limit on concurrent calls: grows by one per healthy call while at least half of it is in use,
+ * and is multiplied by the backoff ratio when a call fails or is slower than the latency threshold.
+ * Locks instead of {@code synchronized} so that virtual threads are not pinned.
+ */
+class AdaptiveConcurrencyLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+
+    AdaptiveConcurrencyLimit(ServerOverloadProperties properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+        this.backoffRatio = properties.backoffRatio();
+        this.limit = Math.clamp(properties.initialLimit(), minLimit, maxLimit);
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a call that was never sent, without adjusting the limit.
+     */
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    void onComplete(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            int callsInFlight = inFlight.getAndDecrement();
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (callsInFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
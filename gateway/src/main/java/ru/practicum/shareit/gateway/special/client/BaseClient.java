@@ -6,16 +6,32 @@ import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 public class BaseClient {
+    private static final Set<String> NOT_PASSED_THROUGH = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "content-length");
+
     protected final RestTemplate rest;
+    private final ResponseCache responseCache;
+    private final RequestCoalescer requestCoalescer;
 
-    @SuppressWarnings("EI_EXPOSE_REP2")
     public BaseClient(@NonNull RestTemplate rest) {
-        this.rest = Objects.requireNonNull(rest);;
+        this(rest, ResponseCache.disabled(), RequestCoalescer.disabled());
+    }
+
+    @SuppressWarnings("EI_EXPOSE_REP2")
+    public BaseClient(@NonNull RestTemplate rest, @NonNull ResponseCache responseCache,
+                      @NonNull RequestCoalescer requestCoalescer) {
+        this.rest = Objects.requireNonNull(rest);
+        this.responseCache = Objects.requireNonNull(responseCache);
+        this.requestCoalescer = Objects.requireNonNull(requestCoalescer);
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -78,22 +94,59 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    /**
+     * Server responses are passed through as raw bytes with their headers, the body is never parsed in the gateway.
+     * Identical concurrent GETs share one server call, and GET responses with an ETag are cached and revalidated
+     * with {@code If-None-Match} on the next call.
+     */
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        URI uri = parameters != null
+                ? rest.getUriTemplateHandler().expand(path, parameters)
+                : rest.getUriTemplateHandler().expand(path);
+        if (method != HttpMethod.GET) {
+            return exchange(method, uri, new HttpEntity<>(body, defaultHeaders(userId)));
+        }
 
-        ResponseEntity<Object> shareitServerResponse;
+        String key = ResponseCache.key(uri, userId);
+        return requestCoalescer.execute(key, () -> getRevalidated(key, uri, userId));
+    }
+
+    private ResponseEntity<Object> getRevalidated(String cacheKey, URI uri, Long userId) {
+        ResponseCache.Entry cached = responseCache.get(cacheKey);
+        HttpHeaders headers = defaultHeaders(userId);
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.etag());
+        }
+
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
+            shareitServerResponse = rest.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            responseCache.evict(cacheKey);
+            return errorResponse(e);
+        }
+
+        if (cached != null && shareitServerResponse.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            return cached.toResponse();
         }
+        responseCache.update(cacheKey, shareitServerResponse);
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, URI uri, HttpEntity<T> requestEntity) {
+        try {
+            return prepareGatewayResponse(rest.exchange(uri, method, requestEntity, byte[].class));
+        } catch (HttpStatusCodeException e) {
+            return errorResponse(e);
+        }
+    }
+
+    private static ResponseEntity<Object> errorResponse(HttpStatusCodeException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .headers(passthroughHeaders(e.getResponseHeaders()))
+                .body(e.getResponseBodyAsByteArray());
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -104,9 +157,11 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
         if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(passthroughHeaders(response.getHeaders()))
+                    .body(response.getBody());
         }
 
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
@@ -117,4 +172,20 @@ public class BaseClient {
 
         return responseBuilder.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * End-to-end headers of a server response. Hop-by-hop headers belong to the gateway-to-server connection,
+     * and Content-Length is set again when the body is written.
+     */
+    static HttpHeaders passthroughHeaders(@Nullable HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        if (serverHeaders != null) {
+            serverHeaders.forEach((name, values) -> {
+                if (!NOT_PASSED_THROUGH.contains(name.toLowerCase(Locale.ROOT))) {
+                    headers.put(name, values);
+                }
+            });
+        }
+        return headers;
+    }
+}
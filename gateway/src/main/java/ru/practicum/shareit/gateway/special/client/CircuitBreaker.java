@@ -0,0 +1,147 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker. Closed, it records the outcome of the last {@code breakerWindow} calls and opens
+ * once the failure rate reaches the threshold. Open, it refuses calls for {@code breakerOpenFor}, then lets
+ * a single probe through: success closes it with a fresh window, failure opens it again.
+ * <p>
+ * Every state change starts a new generation, and a {@link Permit} only counts in the generation it was granted in.
+ * A slow call admitted before the breaker opened therefore cannot stand in for the probe, and calls from before
+ * the breaker closed again do not land in the fresh window.
+ */
+class CircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * Outcome of {@link #tryAcquire()}: granted when {@code retryAfter} is zero, otherwise how long the caller
+     * should wait.
+     */
+    record Permit(long generation, Duration retryAfter) {
+        boolean isGranted() {
+            return retryAfter.isZero();
+        }
+    }
+
+    private final int minimumCalls;
+    private final double failureRate;
+    private final long openForNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] failures;
+    private int recorded;
+    private int position;
+    private int failed;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+    private long generation;
+
+    CircuitBreaker(ServerOverloadProperties properties, LongSupplier nanoClock) {
+        this.failures = new boolean[properties.breakerWindow()];
+        this.minimumCalls = Math.min(properties.breakerMinimumCalls(), properties.breakerWindow());
+        this.failureRate = properties.breakerFailureRate();
+        this.openForNanos = properties.breakerOpenFor().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    Permit tryAcquire() {
+        lock.lock();
+        try {
+            return switch (state) {
+                case CLOSED -> granted();
+                case OPEN -> {
+                    long remaining = openedAt + openForNanos - nanoClock.getAsLong();
+                    if (remaining > 0) {
+                        yield refused(Duration.ofNanos(remaining));
+                    }
+                    transitionTo(State.HALF_OPEN);
+                    probeInFlight = true;
+                    yield granted();
+                }
+                case HALF_OPEN -> {
+                    if (probeInFlight) {
+                        yield refused(Duration.ofNanos(openForNanos));
+                    }
+                    probeInFlight = true;
+                    yield granted();
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onComplete(Permit permit, boolean callFailed) {
+        lock.lock();
+        try {
+            if (permit.generation() != generation) {
+                // admitted before the last state change, e.g. a slow call that was in flight when the breaker opened
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+                if (callFailed) {
+                    open();
+                } else {
+                    close();
+                }
+                return;
+            }
+
+            if (recorded == failures.length && failures[position]) {
+                failed--;
+            }
+            failures[position] = callFailed;
+            if (callFailed) {
+                failed++;
+            }
+            position = (position + 1) % failures.length;
+            recorded = Math.min(recorded + 1, failures.length);
+
+            if (recorded >= minimumCalls && failed >= failureRate * recorded) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Permit granted() {
+        return new Permit(generation, Duration.ZERO);
+    }
+
+    private Permit refused(Duration retryAfter) {
+        return new Permit(generation, retryAfter);
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+    }
+
+    private void open() {
+        transitionTo(State.OPEN);
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        transitionTo(State.CLOSED);
+        recorded = 0;
+        position = 0;
+        failed = 0;
+    }
+}
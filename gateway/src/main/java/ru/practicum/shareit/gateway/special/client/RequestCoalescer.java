@@ -0,0 +1,88 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for identical reads: while a call for a key is in flight, callers with the same key wait for its
+ * response instead of sending their own. Nothing is kept after the call completes, so a later request always
+ * reaches the server. Counted as {@code gateway.server.requests} with {@code result=forwarded|coalesced}.
+ */
+public class RequestCoalescer implements MeterBinder {
+    private static final String METRIC = "gateway.server.requests";
+
+    private final boolean enabled;
+    private final ConcurrentMap<String, CompletableFuture<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder forwarded = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public RequestCoalescer(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static RequestCoalescer disabled() {
+        return new RequestCoalescer(false);
+    }
+
+    /**
+     * Runs {@code call} or joins the call already running for {@code key}. Waiters get the same response,
+     * or the same exception, as the caller that sent the request.
+     */
+    ResponseEntity<Object> execute(String key, Supplier<ResponseEntity<Object>> call) {
+        if (!enabled) {
+            forwarded.increment();
+            return call.get();
+        }
+
+        CompletableFuture<ResponseEntity<Object>> own = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        forwarded.increment();
+        try {
+            ResponseEntity<Object> response = call.get();
+            own.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static ResponseEntity<Object> await(CompletableFuture<ResponseEntity<Object>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC, forwarded, LongAdder::doubleValue)
+                .tag("result", "forwarded")
+                .description("Requests sent to shareit-server")
+                .register(registry);
+        FunctionCounter.builder(METRIC, coalesced, LongAdder::doubleValue)
+                .tag("result", "coalesced")
+                .description("Requests answered with the response of an identical request in flight")
+                .register(registry);
+    }
+}
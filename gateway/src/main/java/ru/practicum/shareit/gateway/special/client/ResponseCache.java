@@ -0,0 +1,86 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.net.URI;
+
+/**
+ * Successful GET responses that carry an ETag, keyed by URI and {@code X-Sharer-User-Id} so that per-user views
+ * do not leak between users. Entries are never served without asking the server: every hit is revalidated with
+ * {@code If-None-Match}, and an unchanged resource costs a 304 without body. Bounded by the total body size.
+ */
+public class ResponseCache implements MeterBinder {
+    private static final String NAME = "gateway.responses";
+
+    @Nullable
+    private final Cache<String, Entry> cache;
+
+    public ResponseCache(ResponseCacheProperties properties) {
+        this(properties.enabled() ? Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.body().length)
+                .expireAfterAccess(properties.expireAfterAccess())
+                .recordStats()
+                .build() : null);
+    }
+
+    private ResponseCache(@Nullable Cache<String, Entry> cache) {
+        this.cache = cache;
+    }
+
+    public static ResponseCache disabled() {
+        return new ResponseCache((Cache<String, Entry>) null);
+    }
+
+    static String key(URI uri, @Nullable Long userId) {
+        return userId + " " + uri;
+    }
+
+    @Nullable
+    Entry get(String key) {
+        return cache != null ? cache.getIfPresent(key) : null;
+    }
+
+    /**
+     * Stores a 200 response with an ETag, anything else removes a previous entry for the key.
+     */
+    void update(String key, ResponseEntity<byte[]> response) {
+        if (cache == null) {
+            return;
+        }
+
+        String etag = response.getHeaders().getETag();
+        if (response.getStatusCode() != HttpStatus.OK || etag == null || response.getBody() == null) {
+            cache.invalidate(key);
+            return;
+        }
+        cache.put(key, new Entry(etag, BaseClient.passthroughHeaders(response.getHeaders()), response.getBody()));
+    }
+
+    void evict(String key) {
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, NAME);
+        }
+    }
+
+    record Entry(String etag, HttpHeaders headers, byte[] body) {
+        ResponseEntity<Object> toResponse() {
+            return ResponseEntity.ok().headers(headers).body(body);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * @param maxSize           total size of cached response bodies
+ * @param expireAfterAccess entries not read for this long are dropped
+ */
+@ConfigurationProperties("shareit-server.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64MB") DataSize maxSize,
+        @DefaultValue("10m") Duration expireAfterAccess) {
+}
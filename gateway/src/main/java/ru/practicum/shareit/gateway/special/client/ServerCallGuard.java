@@ -0,0 +1,92 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+import ru.practicum.shareit.gateway.special.exception.ServerOverloadedException;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Concurrency limit and circuit breaker of one client. Refused calls fail fast with
+ * {@link ServerOverloadedException} instead of queueing on a server that is already slow or failing.
+ * I/O errors and 5xx responses count as failures, 4xx responses are the server working as intended.
+ * <p>
+ * Metrics, tagged with {@code client}: {@code gateway.server.concurrency.limit}, {@code gateway.server.in.flight},
+ * {@code gateway.server.circuit.open} (0 closed, 1 open, 0.5 half-open) and
+ * {@code gateway.server.rejected} with {@code reason=limit|circuit}.
+ */
+public class ServerCallGuard implements ClientHttpRequestInterceptor {
+    private static final Duration LIMIT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final String client;
+    private final AdaptiveConcurrencyLimit limit;
+    private final CircuitBreaker breaker;
+    private final Counter rejectedByLimit;
+    private final Counter rejectedByCircuit;
+
+    ServerCallGuard(String client, ServerOverloadProperties properties, MeterRegistry registry) {
+        this.client = client;
+        this.limit = new AdaptiveConcurrencyLimit(properties);
+        this.breaker = new CircuitBreaker(properties, System::nanoTime);
+
+        Gauge.builder("gateway.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("client", client)
+                .register(registry);
+        Gauge.builder("gateway.server.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("client", client)
+                .register(registry);
+        Gauge.builder("gateway.server.circuit.open", breaker, ServerCallGuard::circuitOpen)
+                .tag("client", client)
+                .register(registry);
+        this.rejectedByLimit = Counter.builder("gateway.server.rejected")
+                .tags("client", client, "reason", "limit")
+                .register(registry);
+        this.rejectedByCircuit = Counter.builder("gateway.server.rejected")
+                .tags("client", client, "reason", "circuit")
+                .register(registry);
+    }
+
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(@NonNull HttpRequest request, @NonNull byte[] body,
+                                        @NonNull ClientHttpRequestExecution execution) throws IOException {
+        if (!limit.tryAcquire()) {
+            rejectedByLimit.increment();
+            throw new ServerOverloadedException(client, "concurrency limit " + limit.getLimit() + " reached",
+                    LIMIT_RETRY_AFTER);
+        }
+        // taken last, so a granted permit always reaches onComplete and a half-open probe is never stranded
+        CircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (!permit.isGranted()) {
+            limit.release();
+            rejectedByCircuit.increment();
+            throw new ServerOverloadedException(client, "circuit breaker is open", permit.retryAfter());
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = response.getStatusCode().is5xxServerError();
+            return response;
+        } finally {
+            limit.onComplete(System.nanoTime() - start, failed);
+            breaker.onComplete(permit, failed);
+        }
+    }
+
+    private static double circuitOpen(CircuitBreaker breaker) {
+        return switch (breaker.getState()) {
+            case CLOSED -> 0;
+            case OPEN -> 1;
+            case HALF_OPEN -> 0.5;
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands every client its own {@link ServerCallGuard}, so that a slow endpoint only sheds the load of its client.
+ */
+public class ServerCallGuards {
+    private final ServerOverloadProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, ServerCallGuard> guards = new ConcurrentHashMap<>();
+
+    public ServerCallGuards(ServerOverloadProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    /**
+     * @param client name of the client, used as the metrics tag
+     * @return interceptors to add to the client's RestTemplate, empty when load shedding is disabled
+     */
+    public List<ClientHttpRequestInterceptor> forClient(String client) {
+        if (!properties.enabled()) {
+            return List.of();
+        }
+        return List.of(guards.computeIfAbsent(client, name -> new ServerCallGuard(name, properties, registry)));
+    }
+}
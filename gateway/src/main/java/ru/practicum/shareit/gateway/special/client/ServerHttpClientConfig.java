@@ -0,0 +1,109 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+
+/**
+ * One connection pool for all calls to shareit-server instead of a default pool per client.
+ * Pool usage is exported as {@code httpcomponents.httpclient.pool.*} gauges with {@code httpclient=shareit-server}:
+ * leased and available connections and {@code total.pending} for requests waiting on a lease.
+ */
+@Configuration
+@EnableConfigurationProperties({ServerHttpClientProperties.class, ResponseCacheProperties.class,
+        ServerOverloadProperties.class})
+public class ServerHttpClientConfig {
+    static final String POOL_NAME = "shareit-server";
+
+    @Bean
+    public PoolingHttpClientConnectionManager serverConnectionManager(ServerHttpClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxTotal())
+                .setMaxConnPerRoute(properties.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(properties.connectTimeout()))
+                        .setSocketTimeout(timeout(properties.responseTimeout()))
+                        .setValidateAfterInactivity(timeValue(properties.validateAfterInactivity()))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient serverHttpClient(PoolingHttpClientConnectionManager serverConnectionManager,
+                                                ServerHttpClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(serverConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(properties.connectionRequestTimeout()))
+                        .setResponseTimeout(timeout(properties.responseTimeout()))
+                        .build())
+                .setKeepAliveStrategy(keepAliveStrategy(timeValue(properties.keepAlive())))
+                .evictExpiredConnections()
+                .evictIdleConnections(timeValue(properties.evictIdleAfter()))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory serverRequestFactory(CloseableHttpClient serverHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(serverHttpClient);
+    }
+
+    @Bean
+    public MeterBinder serverConnectionPoolMetrics(PoolingHttpClientConnectionManager serverConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(serverConnectionManager, POOL_NAME);
+    }
+
+    @Bean
+    public ResponseCache responseCache(ResponseCacheProperties properties) {
+        return new ResponseCache(properties);
+    }
+
+    @Bean
+    public RequestCoalescer requestCoalescer(@Value("${shareit-server.coalesce-reads:true}") boolean enabled) {
+        return new RequestCoalescer(enabled);
+    }
+
+    @Bean
+    public ServerCallGuards serverCallGuards(ServerOverloadProperties properties, MeterRegistry meterRegistry) {
+        return new ServerCallGuards(properties, meterRegistry);
+    }
+
+    /**
+     * Uses the server's {@code Keep-Alive} timeout when it sends one, capped by {@code max}.
+     */
+    static ConnectionKeepAliveStrategy keepAliveStrategy(TimeValue max) {
+        return (response, context) -> {
+            TimeValue suggested = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            if (TimeValue.isPositive(suggested) && suggested.toMilliseconds() < max.toMilliseconds()) {
+                return suggested;
+            }
+            return max;
+        };
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue timeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeouts of the HTTP client shared by all gateway-to-server clients.
+ *
+ * @param maxTotal                 connections to the server over all routes
+ * @param maxPerRoute              connections per route; the gateway talks to a single route
+ * @param connectTimeout           TCP connect timeout
+ * @param connectionRequestTimeout how long a request waits for a free pooled connection
+ * @param responseTimeout          socket read timeout while waiting for the response
+ * @param keepAlive                longest time an idle connection is reused; must stay below the server's
+ *                                 keep-alive timeout, shorter {@code Keep-Alive} headers from the server win
+ * @param evictIdleAfter           idle connections older than this are closed by a background thread
+ * @param validateAfterInactivity  connections idle longer than this are checked before being leased
+ */
+@ConfigurationProperties("shareit-server.http-client")
+public record ServerHttpClientProperties(
+        @DefaultValue("200") int maxTotal,
+        @DefaultValue("200") int maxPerRoute,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("1s") Duration connectionRequestTimeout,
+        @DefaultValue("10s") Duration responseTimeout,
+        @DefaultValue("15s") Duration keepAlive,
+        @DefaultValue("30s") Duration evictIdleAfter,
+        @DefaultValue("2s") Duration validateAfterInactivity) {
+}
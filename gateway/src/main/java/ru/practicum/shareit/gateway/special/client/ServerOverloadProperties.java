@@ -0,0 +1,34 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Load shedding in front of the server, applied to each client (users, items, bookings, requests) separately.
+ *
+ * @param enabled             switches both the concurrency limit and the circuit breaker
+ * @param initialLimit        concurrent calls allowed before any latency was observed
+ * @param minLimit            the limit never drops below this
+ * @param maxLimit            the limit never grows above this; keep it at or below the pool's max-per-route
+ * @param latencyThreshold    a call slower than this counts as a sign of overload and shrinks the limit
+ * @param backoffRatio        factor applied to the limit on overload, it grows back by one per healthy call
+ * @param breakerWindow       number of recent calls the failure rate is computed over
+ * @param breakerMinimumCalls the breaker does not open before this many calls were recorded
+ * @param breakerFailureRate  share of failed calls (I/O errors and 5xx) in the window that opens the breaker
+ * @param breakerOpenFor      how long an open breaker refuses calls before letting a single probe through
+ */
+@ConfigurationProperties("shareit-server.overload")
+public record ServerOverloadProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("50") int initialLimit,
+        @DefaultValue("5") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("1s") Duration latencyThreshold,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("50") int breakerWindow,
+        @DefaultValue("20") int breakerMinimumCalls,
+        @DefaultValue("0.5") double breakerFailureRate,
+        @DefaultValue("10s") Duration breakerOpenFor) {
+}
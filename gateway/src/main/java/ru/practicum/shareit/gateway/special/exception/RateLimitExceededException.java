@@ -0,0 +1,18 @@
+package ru.practicum.shareit.gateway.special.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * A user sent more requests to an endpoint than its rate limit allows.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(long userId, String endpoint, Duration retryAfter) {
+        super("Rate limit exceeded for user " + userId + " on " + endpoint);
+        this.retryAfter = retryAfter;
+    }
+}
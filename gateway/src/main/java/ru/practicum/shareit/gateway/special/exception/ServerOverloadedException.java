@@ -0,0 +1,20 @@
+package ru.practicum.shareit.gateway.special.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * A call to the server was refused in the gateway, before it was sent, to shed load from a slow or failing server.
+ */
+@Getter
+public class ServerOverloadedException extends RuntimeException {
+    private final String client;
+    private final Duration retryAfter;
+
+    public ServerOverloadedException(String client, String reason, Duration retryAfter) {
+        super("Call to server refused for '" + client + "': " + reason);
+        this.client = client;
+        this.retryAfter = retryAfter;
+    }
+}
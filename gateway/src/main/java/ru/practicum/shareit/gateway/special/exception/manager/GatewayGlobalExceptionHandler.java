@@ -3,6 +3,7 @@ package ru.practicum.shareit.gateway.special.exception.manager;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,8 +14,13 @@ import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import ru.practicum.shareit.gateway.special.exception.RateLimitExceededException;
+import ru.practicum.shareit.gateway.special.exception.ServerOverloadedException;
 
+import java.io.InterruptedIOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -130,6 +136,67 @@ public class GatewayGlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(errorBody);
     }
 
+    /**
+     * The server could not be reached: a connect, read or pool lease timeout gives 504, anything else 502.
+     */
+    @ExceptionHandler(ResourceAccessException.class)
+    public ResponseEntity<Map<String, Object>> handleResourceAccess(ResourceAccessException ex) {
+        boolean timedOut = ex.getCause() instanceof InterruptedIOException;
+        HttpStatus status = timedOut ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.BAD_GATEWAY;
+
+        log.warn("Server call failed with {}: {}", status.value(), ex.getMessage());
+
+        Map<String, Object> errorBody = new LinkedHashMap<>();
+        errorBody.put("error", timedOut ? "SERVER_TIMEOUT" : "SERVER_UNAVAILABLE");
+        errorBody.put("message", timedOut ? "Server did not respond in time" : "Server is unavailable");
+        errorBody.put("timestamp", Instant.now());
+
+        return ResponseEntity.status(status).body(errorBody);
+    }
+
+    /**
+     * The call was refused in the gateway to shed load. Logged at DEBUG only: under overload there is one refusal
+     * per request, and {@code gateway.server.rejected} already counts them.
+     */
+    @ExceptionHandler(ServerOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleServerOverloaded(ServerOverloadedException ex) {
+        long retryAfterSeconds = retryAfterSeconds(ex.getRetryAfter());
+
+        if (log.isDebugEnabled()) {
+            log.debug("{}, retry after {}s", ex.getMessage(), retryAfterSeconds);
+        }
+
+        Map<String, Object> errorBody = new LinkedHashMap<>();
+        errorBody.put("error", "SERVER_OVERLOADED");
+        errorBody.put("message", "Server is overloaded, retry later");
+        errorBody.put("timestamp", Instant.now());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorBody);
+    }
+
+    /**
+     * Logged at DEBUG for the same reason as overload refusals; {@code gateway.rate-limit.rejected} counts them.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException ex) {
+        long retryAfterSeconds = retryAfterSeconds(ex.getRetryAfter());
+
+        if (log.isDebugEnabled()) {
+            log.debug("{}, retry after {}s", ex.getMessage(), retryAfterSeconds);
+        }
+
+        Map<String, Object> errorBody = new LinkedHashMap<>();
+        errorBody.put("error", "TOO_MANY_REQUESTS");
+        errorBody.put("message", "Too many requests, retry later");
+        errorBody.put("timestamp", Instant.now());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorBody);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
         log.error("Unexpected error in gateway: {}", ex.getMessage(), ex);
@@ -141,4 +208,11 @@ public class GatewayGlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorBody);
     }
-}
\ No newline at end of file
+
+    /**
+     * Retry-After takes whole seconds: rounded up, and at least one.
+     */
+    private static long retryAfterSeconds(Duration retryAfter) {
+        return Math.max(1, retryAfter.plusNanos(999_999_999).toSeconds());
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.gateway.special.metrics;
+
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import ru.practicum.shareit.gateway.core.booking.dto.BookingState;
+
+/**
+ * Spring's {@code http.server.requests} tags plus the {@code state} of booking listings, limited to the
+ * {@link BookingState} names, {@code invalid} and {@code none}.
+ */
+class BookingStateObservationConvention extends DefaultServerRequestObservationConvention {
+    private static final String STATE = "state";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(STATE, state(context.getCarrier()));
+    }
+
+    private static String state(HttpServletRequest request) {
+        // only GET listings take a state; reading parameters of other requests could consume a form body
+        String value = "GET".equals(request.getMethod()) ? request.getParameter(STATE) : null;
+        if (value == null) {
+            return "none";
+        }
+        return BookingState.from(value).map(BookingState::name).orElse("invalid");
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.gateway.special.metrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Gateway side of the {@code http.server.requests} timer, with the same tags as the server's, so the time a call
+ * spends in the gateway is the difference of the two percentiles for the same {@code uri} and {@code state}.
+ */
+@Configuration
+public class RequestMetricsConfig {
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new BookingStateObservationConvention();
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.gateway.special.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.gateway.special.exception.RateLimitExceededException;
+import ru.practicum.shareit.gateway.special.utils.HttpHeaders;
+
+import java.time.Duration;
+
+/**
+ * Admits requests by the rate limit of their user. Runs as a handler interceptor rather than a servlet filter,
+ * so that the endpoint's mapping pattern is known and rejections go through the exception handler.
+ * Requests without a valid user id are left to the controller, which rejects them.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    /**
+     * Endpoint of requests no handler pattern matched. They share the catch-all rule's buckets instead of being
+     * keyed by their raw path, which would let a client add a rule lookup entry per random path.
+     */
+    static final String UNMATCHED_ENDPOINT = "/**";
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        String userId = request.getHeader(HttpHeaders.SHARER_USER_ID);
+        if (userId == null) {
+            return true;
+        }
+
+        long id;
+        try {
+            id = Long.parseLong(userId);
+        } catch (NumberFormatException e) {
+            return true;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : UNMATCHED_ENDPOINT;
+        long waitNanos = rateLimiter.tryAcquire(endpoint, id);
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException(id, endpoint, Duration.ofNanos(waitNanos));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.gateway.special.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Per-user request rate limits of the gateway, keyed on {@code X-Sharer-User-Id}.
+ *
+ * @param maxUsers   buckets kept per rule; the least recently used users are dropped beyond this
+ * @param idleExpiry buckets of users without requests for this long are dropped, they would be full again anyway
+ * @param rules      checked in order, the first rule whose pattern matches the endpoint applies;
+ *                   endpoints without a matching rule are not limited
+ */
+@ConfigurationProperties("gateway.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maxUsers,
+        @DefaultValue("10m") Duration idleExpiry,
+        @DefaultValue List<Rule> rules) {
+
+    /**
+     * @param pattern   Ant-style path pattern matched against the endpoint mapping, e.g. {@code /bookings/**}
+     * @param capacity  burst size: requests a user with a full bucket may send at once
+     * @param perSecond sustained rate the bucket refills at
+     */
+    public record Rule(String pattern, int capacity, double perSecond) {
+        public Rule {
+            if (pattern == null || pattern.isBlank()) {
+                throw new IllegalArgumentException("Rate limit rule pattern must not be blank");
+            }
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Rate limit capacity must be positive: " + capacity);
+            }
+            // also rejects NaN
+            if (!(perSecond > 0)) {
+                throw new IllegalArgumentException("Rate limit perSecond must be positive: " + perSecond);
+            }
+            // the bucket keeps its burst in nanoseconds, capacity * interval must not overflow
+            if (TokenBucket.emissionIntervalNanos(perSecond) > Long.MAX_VALUE / capacity) {
+                throw new IllegalArgumentException(String.format(
+                        "Rate limit burst of %d at %s per second is too long for %s", capacity, perSecond, pattern));
+            }
+        }
+    }
+}
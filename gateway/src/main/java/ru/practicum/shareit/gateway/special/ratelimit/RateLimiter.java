@@ -0,0 +1,79 @@
+package ru.practicum.shareit.gateway.special.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per rule and user. Buckets live in bounded Caffeine caches that drop idle users, the rule of
+ * an endpoint is resolved once per mapping pattern. Rejections are counted as
+ * {@code gateway.rate-limit.rejected} with the rule's pattern as {@code rule} tag.
+ */
+public class RateLimiter {
+    private static final Limit UNLIMITED = new Limit(null, null, null);
+
+    private final List<Limit> limits;
+    private final Map<String, Limit> limitsByEndpoint = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry registry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.limits = properties.rules().stream()
+                .map(rule -> new Limit(rule,
+                        Caffeine.newBuilder()
+                                .maximumSize(properties.maxUsers())
+                                .expireAfterAccess(properties.idleExpiry())
+                                .build(),
+                        Counter.builder("gateway.rate-limit.rejected")
+                                .tag("rule", rule.pattern())
+                                .register(registry)))
+                .toList();
+    }
+
+    /**
+     * @param endpoint mapping pattern of the handler, e.g. {@code /bookings/{bookingId}}
+     * @return 0 when the request is admitted, otherwise nanoseconds until the user may retry
+     */
+    public long tryAcquire(String endpoint, long userId) {
+        Limit limit = limitsByEndpoint.computeIfAbsent(endpoint, this::findLimit);
+        if (limit == UNLIMITED) {
+            return 0;
+        }
+
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = limit.buckets().getIfPresent(userId);
+        if (bucket == null) {
+            bucket = limit.buckets().get(userId, id -> limit.newBucket(now));
+        }
+        long wait = bucket.tryAcquire(now);
+        if (wait > 0) {
+            limit.rejected().increment();
+        }
+        return wait;
+    }
+
+    private Limit findLimit(String endpoint) {
+        AntPathMatcher matcher = new AntPathMatcher();
+        return limits.stream()
+                .filter(limit -> matcher.match(limit.rule().pattern(), endpoint))
+                .findFirst()
+                .orElse(UNLIMITED);
+    }
+
+    private record Limit(RateLimitProperties.Rule rule, Cache<Long, TokenBucket> buckets, Counter rejected) {
+        TokenBucket newBucket(long now) {
+            return new TokenBucket(rule.capacity(), rule.perSecond(), now);
+        }
+    }
+}
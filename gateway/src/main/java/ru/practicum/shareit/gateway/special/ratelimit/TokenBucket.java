@@ -0,0 +1,41 @@
+package ru.practicum.shareit.gateway.special.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: instead of a token count and a refill timestamp it keeps a single
+ * "theoretical arrival time", the instant the bucket would be full again. A request takes one emission interval
+ * and is admitted while that instant stays within the burst tolerance of now, so an admission is one CAS.
+ */
+class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, double perSecond, long nowNanos) {
+        this.emissionIntervalNanos = emissionIntervalNanos(perSecond);
+        this.toleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    static long emissionIntervalNanos(double perSecond) {
+        return Math.max(1, (long) (1_000_000_000L / perSecond));
+    }
+
+    /**
+     * @return 0 when the request is admitted, otherwise nanoseconds until a token is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long wait = next - nowNanos - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
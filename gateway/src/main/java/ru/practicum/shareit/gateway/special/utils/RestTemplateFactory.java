@@ -1,16 +1,34 @@
 package ru.practicum.shareit.gateway.special.utils;
 
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.util.List;
+
 public class RestTemplateFactory {
+    /**
+     * @param requestFactory shared by all clients so that they use one connection pool
+     */
+    public static RestTemplate createRestTemplate(String serverUrl, String apiPrefix,
+                                                  RestTemplateBuilder builder,
+                                                  ClientHttpRequestFactory requestFactory) {
+        return createRestTemplate(serverUrl, apiPrefix, builder, requestFactory, List.of());
+    }
+
+    /**
+     * @param interceptors applied to every call of this client only
+     */
     public static RestTemplate createRestTemplate(String serverUrl, String apiPrefix,
-                                                  RestTemplateBuilder builder) {
+                                                  RestTemplateBuilder builder,
+                                                  ClientHttpRequestFactory requestFactory,
+                                                  List<ClientHttpRequestInterceptor> interceptors) {
         return builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + apiPrefix))
-                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(interceptors)
                 .build();
     }
-}
\ No newline at end of file
+}
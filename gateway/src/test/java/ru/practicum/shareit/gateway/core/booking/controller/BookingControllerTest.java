@@ -10,8 +10,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import ru.practicum.shareit.gateway.core.booking.BookingClient;
 import ru.practicum.shareit.gateway.core.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.gateway.core.booking.dto.BookingBatchMode;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -54,6 +56,21 @@ class BookingControllerTest {
         assertEquals(expectedResponse, actualResponse);
     }
 
+    @Test
+    void createBookings_ShouldPassBatchAndModeToClient() {
+        Long userId = 1L;
+        List<BookItemRequestDto> batch = List.of(validRequestDto, validRequestDto);
+        ResponseEntity<Object> expectedResponse = ResponseEntity.status(HttpStatus.CREATED).body("created");
+        when(bookingClient.bookItems(userId, batch, BookingBatchMode.BEST_EFFORT))
+                .thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse =
+                bookingController.createBookings(batch, BookingBatchMode.BEST_EFFORT, userId);
+
+        verify(bookingClient).bookItems(userId, batch, BookingBatchMode.BEST_EFFORT);
+        assertEquals(expectedResponse, actualResponse);
+    }
+
     @Test
     void approveBooking_WithApprovedTrue_ShouldCallClient() {
         Long bookingId = 1L;
@@ -108,13 +125,13 @@ class BookingControllerTest {
         int from = 0;
         int size = 10;
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok("owner bookings");
-        when(bookingClient.getOwnerBookings(userId, state, from, size))
+        when(bookingClient.getOwnerBookings(userId, state, from, size, null))
                 .thenReturn(expectedResponse);
 
         ResponseEntity<Object> actualResponse =
-                bookingController.getOwnerBookings(userId, state, from, size);
+                bookingController.getOwnerBookings(userId, state, from, size, null);
 
-        verify(bookingClient).getOwnerBookings(userId, state, from, size);
+        verify(bookingClient).getOwnerBookings(userId, state, from, size, null);
         assertEquals(expectedResponse, actualResponse);
     }
 
@@ -125,13 +142,13 @@ class BookingControllerTest {
         int from = 5;
         int size = 20;
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok("owner bookings");
-        when(bookingClient.getOwnerBookings(userId, state, from, size))
+        when(bookingClient.getOwnerBookings(userId, state, from, size, null))
                 .thenReturn(expectedResponse);
 
         ResponseEntity<Object> actualResponse =
-                bookingController.getOwnerBookings(userId, state, from, size);
+                bookingController.getOwnerBookings(userId, state, from, size, null);
 
-        verify(bookingClient).getOwnerBookings(userId, state, from, size);
+        verify(bookingClient).getOwnerBookings(userId, state, from, size, null);
         assertEquals(expectedResponse, actualResponse);
     }
 
@@ -142,13 +159,13 @@ class BookingControllerTest {
         int from = 0;
         int size = 10;
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok("user bookings");
-        when(bookingClient.getUserBookings(userId, state, from, size))
+        when(bookingClient.getUserBookings(userId, state, from, size, null))
                 .thenReturn(expectedResponse);
 
         ResponseEntity<Object> actualResponse =
-                bookingController.getUserBookings(userId, state, from, size);
+                bookingController.getUserBookings(userId, state, from, size, null);
 
-        verify(bookingClient).getUserBookings(userId, state, from, size);
+        verify(bookingClient).getUserBookings(userId, state, from, size, null);
         assertEquals(expectedResponse, actualResponse);
     }
 
@@ -159,13 +176,13 @@ class BookingControllerTest {
         int from = 10;
         int size = 5;
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok("user bookings");
-        when(bookingClient.getUserBookings(userId, state, from, size))
+        when(bookingClient.getUserBookings(userId, state, from, size, null))
                 .thenReturn(expectedResponse);
 
         ResponseEntity<Object> actualResponse =
-                bookingController.getUserBookings(userId, state, from, size);
+                bookingController.getUserBookings(userId, state, from, size, null);
 
-        verify(bookingClient).getUserBookings(userId, state, from, size);
+        verify(bookingClient).getUserBookings(userId, state, from, size, null);
         assertEquals(expectedResponse, actualResponse);
     }
 
@@ -184,6 +201,38 @@ class BookingControllerTest {
         assertEquals(expectedResponse, actualResponse);
     }
 
+    @Test
+    void getUserBookings_WithCursor_ShouldPassCursorToClient() {
+        Long userId = 1L;
+        String cursor = "MjAyNi0wMS0wMVQxMDowMF81";
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("user bookings");
+        when(bookingClient.getUserBookings(userId, "ALL", 0, 10, cursor))
+                .thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse =
+                bookingController.getUserBookings(userId, "ALL", 0, 10, cursor);
+
+        verify(bookingClient).getUserBookings(userId, "ALL", 0, 10, cursor);
+        assertEquals(expectedResponse, actualResponse);
+    }
+
+    @Test
+    void getFreeSlots_ShouldCallClientWithCorrectParameters() {
+        Long itemId = 3L;
+        Long userId = 1L;
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+        LocalDateTime to = from.plusDays(7);
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("free slots");
+        when(bookingClient.getFreeSlots(itemId, from, to, userId))
+                .thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse =
+                bookingController.getFreeSlots(itemId, from, to, userId);
+
+        verify(bookingClient).getFreeSlots(itemId, from, to, userId);
+        assertEquals(expectedResponse, actualResponse);
+    }
+
     @Test
     void createBooking_WithArgumentCaptor_ShouldPassCorrectArguments() {
         Long userId = 1L;
@@ -228,13 +277,13 @@ class BookingControllerTest {
         int size = 10;
 
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
-        when(bookingClient.getOwnerBookings(userId, state, from, size))
+        when(bookingClient.getOwnerBookings(userId, state, from, size, null))
                 .thenReturn(expectedResponse);
 
         ResponseEntity<Object> actualResponse =
-                bookingController.getOwnerBookings(userId, state, from, size);
+                bookingController.getOwnerBookings(userId, state, from, size, null);
 
-        verify(bookingClient).getOwnerBookings(userId, state, from, size);
+        verify(bookingClient).getOwnerBookings(userId, state, from, size, null);
         assertNotNull(actualResponse);
     }
 }
\ No newline at end of file
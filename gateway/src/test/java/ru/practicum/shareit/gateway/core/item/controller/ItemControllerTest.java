@@ -15,6 +15,7 @@ import ru.practicum.shareit.gateway.core.item.ItemClient;
 import ru.practicum.shareit.gateway.core.item.dto.comment.CommentRequestDto;
 import ru.practicum.shareit.gateway.core.item.dto.item.CreateItemDto;
 import ru.practicum.shareit.gateway.core.item.dto.item.ItemUpdateDto;
+import ru.practicum.shareit.gateway.core.item.importer.ItemImporter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +30,9 @@ class ItemControllerTest {
     @Mock
     private ItemClient itemClient;
 
+    @Mock
+    private ItemImporter itemImporter;
+
     private Pageable pageable;
 
     private CreateItemDto createItemDto;
@@ -37,7 +41,7 @@ class ItemControllerTest {
 
     @BeforeEach
     void setUp() {
-        itemController = new ItemController(itemClient);
+        itemController = new ItemController(itemClient, itemImporter);
 
         createItemDto = CreateItemDto.builder()
                 .name("Test Item")
@@ -111,6 +115,19 @@ class ItemControllerTest {
         assertEquals(expectedResponse, actualResponse);
     }
 
+    @Test
+    void getItemComments_ShouldPassCursorAndSizeToClient() {
+        Long itemId = 1L;
+        Long userId = 2L;
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("comments");
+        when(itemClient.getItemComments(itemId, userId, "token", 5)).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = itemController.getItemComments(itemId, userId, "token", 5);
+
+        verify(itemClient).getItemComments(itemId, userId, "token", 5);
+        assertEquals(expectedResponse, actualResponse);
+    }
+
     @Test
     void searchItemsByQuery_WithEmptyText_ShouldCallClientWithEmptyString() {
         String text = "";
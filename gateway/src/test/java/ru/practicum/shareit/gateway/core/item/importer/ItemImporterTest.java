@@ -0,0 +1,181 @@
+package ru.practicum.shareit.gateway.core.item.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.gateway.core.item.ItemClient;
+import ru.practicum.shareit.gateway.core.item.dto.item.CreateItemDto;
+import ru.practicum.shareit.gateway.core.item.dto.item.ItemImportResultDto;
+import ru.practicum.shareit.gateway.core.item.dto.item.ItemImportResultDto.LineError;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemImporterTest {
+    private static final String DRILL = "{\"name\":\"Drill\",\"description\":\"Cordless\",\"available\":true}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<List<String>> chunks = new ArrayList<>();
+
+    @Mock
+    private ItemClient itemClient;
+
+    private ItemImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new ItemImporter(itemClient, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ItemImportProperties(2, 100));
+    }
+
+    @Test
+    void importItems_ShouldSendNdjsonInChunksAndReportInvalidLines() throws IOException {
+        serverCreatesAllButNamed("");
+        String body = String.join("\n",
+                DRILL,
+                "{\"name\":\" \",\"description\":\"Blank name\",\"available\":true}",
+                "{\"name\":\"Ladder\",\"description\":\"Three metres\",\"available\":false}",
+                "",
+                "{\"name\":\"Saw\",\"description\":\"Sharp\",\"available\":true,\"requestId\":5}",
+                "42",
+                "{\"name\":\"Hammer\",\"description\":\"Heavy\",\"available\":\"maybe\"}");
+
+        ResponseEntity<Object> response = importer.importItems(1L, stream(body), true);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ItemImportResultDto result = (ItemImportResultDto) response.getBody();
+        assertEquals(6, result.received());
+        assertEquals(3, result.created());
+        assertEquals(3, result.rejected());
+        assertEquals(List.of(2, 6, 7), result.errors().stream().map(LineError::line).toList());
+        assertEquals(List.of(1, 4, 5), result.errors().stream().map(LineError::index).toList());
+        assertEquals("Item name cannot be empty", result.errors().get(0).error());
+        assertEquals("Expected a JSON object", result.errors().get(1).error());
+        assertEquals(List.of(List.of("Drill", "Ladder"), List.of("Saw")), chunks);
+    }
+
+    @Test
+    void importItems_ShouldReportItemsRejectedByServerOnTheirLine() throws IOException {
+        serverCreatesAllButNamed("Ladder");
+        String body = "[\n"
+                + "  {\"name\": \"Drill\", \"description\": \"Cordless\", \"available\": true},\n"
+                + "  {\n"
+                + "    \"name\": \"Ladder\", \"description\": \"Three metres\", \"available\": true, \"requestId\": 999\n"
+                + "  }\n"
+                + "]";
+
+        ResponseEntity<Object> response = importer.importItems(1L, stream(body), false);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ItemImportResultDto result = (ItemImportResultDto) response.getBody();
+        assertEquals(1, result.created());
+        assertEquals(List.of(new LineError(3, 1, "Request not found: 999")), result.errors());
+    }
+
+    @Test
+    void importItems_ShouldStopAtMalformedJsonAndKeepItemsReadBefore() throws IOException {
+        serverCreatesAllButNamed("");
+        String body = DRILL + "\n{\"name\": \"Ladder\",\n" + DRILL;
+
+        ResponseEntity<Object> response = importer.importItems(1L, stream(body), true);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ItemImportResultDto result = (ItemImportResultDto) response.getBody();
+        assertEquals(1, result.received());
+        assertEquals(1, result.created());
+        assertEquals(1, result.errors().size());
+        assertEquals(3, result.errors().get(0).line());
+        assertNull(result.errors().get(0).index());
+        assertEquals(List.of(List.of("Drill")), chunks);
+    }
+
+    @Test
+    void importItems_ShouldRejectJsonThatIsNotAnArray() throws IOException {
+        ResponseEntity<Object> response = importer.importItems(1L, stream(DRILL), false);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        ItemImportResultDto result = (ItemImportResultDto) response.getBody();
+        assertEquals(0, result.received());
+        assertEquals(1, result.errors().size());
+        verify(itemClient, never()).importItems(eq(1L), anyList());
+    }
+
+    @Test
+    void importItems_ShouldReturnServerErrorWhenNothingWasImported() throws IOException {
+        byte[] notFound = "{\"error\":\"User not found\"}".getBytes(StandardCharsets.UTF_8);
+        when(itemClient.importItems(eq(1L), anyList()))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_FOUND).body(notFound));
+
+        ResponseEntity<Object> response = importer.importItems(1L, stream(DRILL + "\n" + DRILL + "\n" + DRILL), true);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(notFound, response.getBody());
+        verify(itemClient).importItems(eq(1L), anyList());
+    }
+
+    @Test
+    void importItems_ShouldCountTheRestOfTheBodyAsRejectedAfterServerFailsLaterChunk() throws IOException {
+        byte[] firstChunk = objectMapper.writeValueAsBytes(Map.of("created", 2, "rejected", 0, "results",
+                List.of(Map.of("index", 0, "itemId", 100), Map.of("index", 1, "itemId", 101))));
+        when(itemClient.importItems(eq(1L), anyList())).thenReturn(
+                ResponseEntity.ok(firstChunk),
+                ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        String body = String.join("\n", DRILL, DRILL, DRILL, DRILL, DRILL, "42", DRILL);
+
+        ResponseEntity<Object> response = importer.importItems(1L, stream(body), true);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ItemImportResultDto result = (ItemImportResultDto) response.getBody();
+        assertEquals(7, result.received());
+        assertEquals(2, result.created());
+        assertEquals(5, result.rejected());
+        assertEquals(List.of(3, 4, 5, 6, 7), result.errors().stream().map(LineError::line).toList());
+        assertEquals(List.of("Not imported, import stopped: server answered 503"),
+                result.errors().stream().map(LineError::error).distinct().toList());
+        verify(itemClient, times(2)).importItems(eq(1L), anyList());
+    }
+
+    /**
+     * Records the names of every chunk and answers like the server, rejecting items with the given name.
+     */
+    private void serverCreatesAllButNamed(String rejectedName) {
+        when(itemClient.importItems(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<CreateItemDto> items = invocation.getArgument(1);
+            chunks.add(items.stream().map(CreateItemDto::name).toList());
+
+            List<Map<String, Object>> results = IntStream.range(0, items.size())
+                    .mapToObj(i -> items.get(i).name().equals(rejectedName)
+                            ? Map.<String, Object>of("index", i, "error", "Request not found: " + items.get(i).requestId())
+                            : Map.<String, Object>of("index", i, "itemId", 100 + i))
+                    .toList();
+            long created = results.stream().filter(result -> !result.containsKey("error")).count();
+            return ResponseEntity.ok(objectMapper.writeValueAsBytes(Map.of(
+                    "created", created, "rejected", items.size() - created, "results", results)));
+        });
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
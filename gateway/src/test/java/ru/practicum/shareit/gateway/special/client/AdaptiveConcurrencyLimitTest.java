@@ -0,0 +1,85 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(new ServerOverloadProperties(
+            true, 4, 2, 6, Duration.ofSeconds(1), 0.5, 10, 5, 0.5, Duration.ofSeconds(10)));
+
+    @Test
+    void tryAcquire_ShouldRefuseCallsAboveLimit() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+
+        assertFalse(limit.tryAcquire());
+        assertEquals(4, limit.getInFlight());
+    }
+
+    @Test
+    void onComplete_ShouldGrowLimit_WhenHealthyCallsUseIt() {
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        limit.onComplete(FAST, false);
+
+        assertEquals(5, limit.getLimit());
+        assertEquals(1, limit.getInFlight());
+    }
+
+    @Test
+    void onComplete_ShouldNotGrowLimit_WhenMostOfItIsIdle() {
+        limit.tryAcquire();
+
+        limit.onComplete(FAST, false);
+
+        assertEquals(4, limit.getLimit());
+    }
+
+    @Test
+    void onComplete_ShouldStayWithinBounds() {
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+            limit.tryAcquire();
+            limit.tryAcquire();
+            limit.onComplete(FAST, false);
+            limit.release();
+            limit.release();
+        }
+        assertEquals(6, limit.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+            limit.onComplete(SLOW, false);
+        }
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    void onComplete_ShouldBackOff_WhenCallIsSlowOrFails() {
+        limit.tryAcquire();
+        limit.onComplete(SLOW, false);
+        assertEquals(2, limit.getLimit());
+
+        limit.tryAcquire();
+        limit.onComplete(FAST, true);
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    void release_ShouldNotChangeLimit() {
+        limit.tryAcquire();
+
+        limit.release();
+
+        assertEquals(4, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+}
@@ -0,0 +1,175 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class BaseClientTest {
+    private static final String ITEMS_JSON = "[{\"id\":1,\"name\":\"Drill\"},{\"id\":2,\"name\":\"Ladder\"}]";
+
+    private MockRestServiceServer server;
+    private TestClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate rest = new RestTemplate();
+        server = MockRestServiceServer.bindTo(rest).build();
+        client = new TestClient(rest, new ResponseCache(
+                new ResponseCacheProperties(true, DataSize.ofMegabytes(1), Duration.ofMinutes(1))),
+                new RequestCoalescer(true));
+    }
+
+    @Test
+    void get_ShouldPassServerBodyThroughAsBytes() {
+        HttpHeaders serverHeaders = new HttpHeaders();
+        serverHeaders.set("X-Next-Cursor", "abc");
+        serverHeaders.set(HttpHeaders.CONNECTION, "keep-alive");
+        server.expect(requestTo("/items"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "7"))
+                .andRespond(withSuccess(ITEMS_JSON, MediaType.APPLICATION_JSON).headers(serverHeaders));
+
+        ResponseEntity<Object> response = client.get("/items", 7L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(ITEMS_JSON.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("abc", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        server.verify();
+    }
+
+    @Test
+    void get_ShouldKeepErrorStatusAndBody() {
+        String error = "{\"error\":\"NOT_FOUND\"}";
+        server.expect(requestTo("/items/42"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error));
+
+        ResponseEntity<Object> response = client.get("/items/42", 7L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertArrayEquals(error.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void get_ShouldRevalidateCachedResponseAndServeItOnNotModified() {
+        server.expect(requestTo("/items/1"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(ITEMS_JSON, MediaType.APPLICATION_JSON).headers(etag("\"v1\"")));
+        server.expect(requestTo("/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(etag("\"v1\"")));
+
+        client.get("/items/1", 7L);
+        ResponseEntity<Object> response = client.get("/items/1", 7L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(ITEMS_JSON.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+        server.verify();
+    }
+
+    @Test
+    void get_ShouldReplaceCachedResponseWhenResourceChanged() {
+        String changed = "[{\"id\":1,\"name\":\"Hammer\"}]";
+        server.expect(requestTo("/items/1"))
+                .andRespond(withSuccess(ITEMS_JSON, MediaType.APPLICATION_JSON).headers(etag("\"v1\"")));
+        server.expect(requestTo("/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withSuccess(changed, MediaType.APPLICATION_JSON).headers(etag("\"v2\"")));
+        server.expect(requestTo("/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v2\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        client.get("/items/1", 7L);
+        client.get("/items/1", 7L);
+        ResponseEntity<Object> response = client.get("/items/1", 7L);
+
+        assertArrayEquals(changed.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        server.verify();
+    }
+
+    @Test
+    void get_ShouldKeepCachedResponsesPerUser() {
+        server.expect(requestTo("/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "7"))
+                .andRespond(withSuccess(ITEMS_JSON, MediaType.APPLICATION_JSON).headers(etag("\"owner\"")));
+        server.expect(requestTo("/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "8"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(ITEMS_JSON, MediaType.APPLICATION_JSON).headers(etag("\"other\"")));
+
+        client.get("/items/1", 7L);
+        client.get("/items/1", 8L);
+
+        server.verify();
+    }
+
+    @Test
+    void get_ShouldDropCachedResponseWhenServerAnswersWithError() {
+        server.expect(requestTo("/items/1"))
+                .andRespond(withSuccess(ITEMS_JSON, MediaType.APPLICATION_JSON).headers(etag("\"v1\"")));
+        server.expect(requestTo("/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo("/items/1"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        client.get("/items/1", 7L);
+        client.get("/items/1", 7L);
+        client.get("/items/1", 7L);
+
+        server.verify();
+    }
+
+    @Test
+    void passthroughHeaders_ShouldDropHopByHopHeaders() {
+        HttpHeaders serverHeaders = new HttpHeaders();
+        serverHeaders.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        serverHeaders.set("Keep-Alive", "timeout=60");
+        serverHeaders.setContentLength(10);
+        serverHeaders.setETag("\"v1\"");
+
+        HttpHeaders headers = BaseClient.passthroughHeaders(serverHeaders);
+
+        assertEquals("\"v1\"", headers.getETag());
+        assertEquals(1, headers.size());
+    }
+
+    private static HttpHeaders etag(String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        return headers;
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(RestTemplate rest, ResponseCache responseCache, RequestCoalescer requestCoalescer) {
+            super(rest, responseCache, requestCoalescer);
+        }
+
+        @Override
+        public ResponseEntity<Object> get(String path, Long userId) {
+            return super.get(path, userId);
+        }
+    }
+}
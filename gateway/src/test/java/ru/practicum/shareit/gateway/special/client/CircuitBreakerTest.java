@@ -0,0 +1,115 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(new ServerOverloadProperties(
+            true, 10, 1, 100, Duration.ofSeconds(1), 0.9, 10, 4, 0.5, Duration.ofSeconds(10)), now::get);
+
+    @Test
+    void onComplete_ShouldStayClosed_BeforeMinimumCalls() {
+        record(false, false, false);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire().isGranted());
+    }
+
+    @Test
+    void onComplete_ShouldOpen_WhenFailureRateReached() {
+        record(true, false, true, false);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(Duration.ofSeconds(10), breaker.tryAcquire().retryAfter());
+    }
+
+    @Test
+    void onComplete_ShouldForgetCallsOutsideWindow() {
+        record(true, false, false, false, false, false, false, false, false, false);
+        record(false, true, true, true, true);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void tryAcquire_ShouldLetSingleProbeThrough_AfterOpenPeriod() {
+        record(true, true, true, true);
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        assertEquals(Duration.ofSeconds(6), breaker.tryAcquire().retryAfter());
+
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertTrue(breaker.tryAcquire().isGranted());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire().isGranted());
+    }
+
+    @Test
+    void onComplete_ShouldClose_WhenProbeSucceeds() {
+        record(true, true, true, true);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+
+        breaker.onComplete(probe, false);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        record(true, false, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void onComplete_ShouldReopen_WhenProbeFails() {
+        record(true, true, true, true);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+
+        breaker.onComplete(probe, true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(Duration.ofSeconds(10), breaker.tryAcquire().retryAfter());
+    }
+
+    @Test
+    void onComplete_ShouldIgnoreCallAdmittedBeforeOpening_WhileProbeInFlight() {
+        CircuitBreaker.Permit slowCall = breaker.tryAcquire();
+        record(true, true, true, true);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+
+        breaker.onComplete(slowCall, false);
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire().isGranted());
+
+        breaker.onComplete(probe, true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void onComplete_ShouldIgnoreCallsFromBeforeClosing_InFreshWindow() {
+        CircuitBreaker.Permit slowCall = breaker.tryAcquire();
+        record(true, true, true, true);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.onComplete(breaker.tryAcquire(), false);
+
+        breaker.onComplete(slowCall, true);
+        record(true, false, false);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failed : failures) {
+            CircuitBreaker.Permit permit = breaker.tryAcquire();
+            assertTrue(permit.isGranted());
+            breaker.onComplete(permit, failed);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+    private static final int WAITERS = 5;
+
+    private final RequestCoalescer coalescer = new RequestCoalescer(true);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        coalescer.bindTo(registry);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldShareOneCallBetweenConcurrentIdenticalRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ResponseEntity<Object> response = ResponseEntity.ok("item");
+
+        Future<ResponseEntity<Object>> leader = executor.submit(() -> coalescer.execute("7 /items/1", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return response;
+        }));
+        awaitCount("forwarded", 1);
+        List<Future<ResponseEntity<Object>>> waiters = submitWaiters("7 /items/1", () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok("other");
+        });
+        awaitCount("coalesced", WAITERS);
+        release.countDown();
+
+        assertSame(response, leader.get(5, TimeUnit.SECONDS));
+        for (Future<ResponseEntity<Object>> waiter : waiters) {
+            assertSame(response, waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_ShouldPassLeaderFailureToWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<ResponseEntity<Object>> leader = executor.submit(() -> coalescer.execute("7 /items/1", () -> {
+            await(release);
+            throw new ResourceAccessException("timeout");
+        }));
+        awaitCount("forwarded", 1);
+        List<Future<ResponseEntity<Object>>> waiters = submitWaiters("7 /items/1", () -> ResponseEntity.ok("other"));
+        awaitCount("coalesced", WAITERS);
+        release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ResourceAccessException.class, leaderFailure.getCause());
+        for (Future<ResponseEntity<Object>> waiter : waiters) {
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertSame(leaderFailure.getCause(), failure.getCause());
+        }
+    }
+
+    @Test
+    void execute_ShouldCallAgain_WhenPreviousCallCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<ResponseEntity<Object>> call = () -> ResponseEntity.ok(calls.incrementAndGet());
+
+        coalescer.execute("7 /items/1", call);
+        ResponseEntity<Object> second = coalescer.execute("7 /items/1", call);
+
+        assertEquals(2, second.getBody());
+        assertEquals(2.0, count("forwarded"));
+        assertEquals(0.0, count("coalesced"));
+    }
+
+    @Test
+    void execute_ShouldNotShareCallsBetweenKeys() {
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.execute("7 /items/1", () -> coalescer.execute("8 /items/1",
+                () -> ResponseEntity.ok(calls.incrementAndGet())));
+
+        assertEquals(1, calls.get());
+        assertEquals(2.0, count("forwarded"));
+    }
+
+    private List<Future<ResponseEntity<Object>>> submitWaiters(String key, Supplier<ResponseEntity<Object>> call) {
+        List<Future<ResponseEntity<Object>>> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(executor.submit(() -> coalescer.execute(key, call)));
+        }
+        return waiters;
+    }
+
+    private double count(String result) {
+        return registry.get("gateway.server.requests").tag("result", result).functionCounter().count();
+    }
+
+    private void awaitCount(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(result) < expected) {
+            assertTrue(System.nanoTime() < deadline, "expected " + expected + " " + result + " requests");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.gateway.special.exception.ServerOverloadedException;
+import ru.practicum.shareit.gateway.special.utils.RestTemplateFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the guard against a local stub server whose latency and status are set per test.
+ */
+class ServerCallGuardTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ExecutorService executor;
+    private HttpServer stub;
+    private volatile int latencyMs;
+    private volatile int status = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        stub = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 100);
+        stub.setExecutor(executor);
+        stub.createContext("/", this::respond);
+        stub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void intercept_ShouldShedBurst_WhenServerIsSlow() throws Exception {
+        latencyMs = 200;
+        RestTemplate rest = restTemplate(properties(8, 2, Duration.ofMillis(100), 100));
+
+        for (int i = 0; i < 3; i++) {
+            rest.getForEntity("/items", String.class);
+        }
+        assertEquals(2.0, gauge("gateway.server.concurrency.limit"));
+
+        List<Future<ResponseEntity<String>>> burst = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            burst.add(executor.submit(() -> rest.getForEntity("/items", String.class)));
+        }
+        int succeeded = 0;
+        int shed = 0;
+        for (Future<ResponseEntity<String>> call : burst) {
+            try {
+                call.get(5, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                ServerOverloadedException overloaded = assertInstanceOf(ServerOverloadedException.class, e.getCause());
+                assertEquals(Duration.ofSeconds(1), overloaded.getRetryAfter());
+                shed++;
+            }
+        }
+
+        assertTrue(succeeded >= 1 && succeeded <= 2, "succeeded: " + succeeded);
+        assertEquals(10, succeeded + shed);
+        assertEquals(shed, registry.get("gateway.server.rejected").tag("reason", "limit").counter().count());
+    }
+
+    @Test
+    void intercept_ShouldOpenCircuit_WhenServerFails() {
+        status = 500;
+        RestTemplate rest = restTemplate(properties(8, 2, Duration.ofSeconds(1), 4));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpServerErrorException.class, () -> rest.getForEntity("/items", String.class));
+        }
+        status = 200;
+
+        ServerOverloadedException overloaded = assertThrows(ServerOverloadedException.class,
+                () -> rest.getForEntity("/items", String.class));
+        assertEquals("items", overloaded.getClient());
+        assertTrue(overloaded.getRetryAfter().compareTo(Duration.ofSeconds(10)) <= 0);
+        assertEquals(1.0, gauge("gateway.server.circuit.open"));
+        assertEquals(1.0, registry.get("gateway.server.rejected").tag("reason", "circuit").counter().count());
+    }
+
+    @Test
+    void intercept_ShouldNotCountClientErrorsAsFailures() {
+        status = 404;
+        RestTemplate rest = restTemplate(properties(8, 2, Duration.ofSeconds(1), 4));
+
+        for (int i = 0; i < 8; i++) {
+            assertThrows(HttpClientErrorException.class, () -> rest.getForEntity("/items", String.class));
+        }
+
+        assertEquals(0.0, gauge("gateway.server.circuit.open"));
+    }
+
+    @Test
+    void forClient_ShouldReturnNoInterceptors_WhenDisabled() {
+        ServerCallGuards guards = new ServerCallGuards(new ServerOverloadProperties(
+                false, 8, 2, 8, Duration.ofSeconds(1), 0.5, 4, 4, 0.5, Duration.ofSeconds(10)), registry);
+
+        assertTrue(guards.forClient("items").isEmpty());
+    }
+
+    private RestTemplate restTemplate(ServerOverloadProperties properties) {
+        return RestTemplateFactory.createRestTemplate("http://127.0.0.1:" + stub.getAddress().getPort(), "",
+                new RestTemplateBuilder(), new SimpleClientHttpRequestFactory(),
+                new ServerCallGuards(properties, registry).forClient("items"));
+    }
+
+    private static ServerOverloadProperties properties(int initialLimit, int minLimit, Duration latencyThreshold,
+                                                       int breakerCalls) {
+        return new ServerOverloadProperties(true, initialLimit, minLimit, initialLimit, latencyThreshold, 0.5,
+                breakerCalls, breakerCalls, 0.5, Duration.ofSeconds(10));
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tag("client", "items").gauge().value();
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.gateway.special.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class ServerHttpClientConfigTest {
+    private final ServerHttpClientConfig config = new ServerHttpClientConfig();
+    private final ServerHttpClientProperties properties = new ServerHttpClientProperties(
+            50, 20, Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofSeconds(10),
+            Duration.ofSeconds(15), Duration.ofSeconds(30), Duration.ofSeconds(2));
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() {
+        connectionManager = config.serverConnectionManager(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+    }
+
+    @Test
+    void serverConnectionManager_ShouldApplyPoolLimits() {
+        assertEquals(50, connectionManager.getMaxTotal());
+        assertEquals(20, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void serverConnectionPoolMetrics_ShouldRegisterPoolGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        config.serverConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+        assertEquals(50, registry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", ServerHttpClientConfig.POOL_NAME).gauge().value());
+        assertNotNull(registry.get("httpcomponents.httpclient.pool.total.pending").gauge());
+        assertNotNull(registry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased").gauge());
+    }
+
+    @Test
+    void keepAliveStrategy_ShouldUseConfiguredMaximum_WhenServerSendsNoHeader() {
+        ConnectionKeepAliveStrategy strategy = ServerHttpClientConfig.keepAliveStrategy(TimeValue.ofSeconds(15));
+
+        TimeValue keepAlive = strategy.getKeepAliveDuration(new BasicClassicHttpResponse(200),
+                HttpClientContext.create());
+
+        assertEquals(15_000, keepAlive.toMilliseconds());
+    }
+
+    @Test
+    void keepAliveStrategy_ShouldPreferShorterServerTimeout() {
+        ConnectionKeepAliveStrategy strategy = ServerHttpClientConfig.keepAliveStrategy(TimeValue.ofSeconds(15));
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200);
+        response.addHeader("Keep-Alive", "timeout=5");
+
+        TimeValue keepAlive = strategy.getKeepAliveDuration(response, HttpClientContext.create());
+
+        assertEquals(5_000, keepAlive.toMilliseconds());
+    }
+
+    @Test
+    void keepAliveStrategy_ShouldCapLongerServerTimeout() {
+        ConnectionKeepAliveStrategy strategy = ServerHttpClientConfig.keepAliveStrategy(TimeValue.ofSeconds(15));
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200);
+        response.addHeader("Keep-Alive", "timeout=120");
+
+        TimeValue keepAlive = strategy.getKeepAliveDuration(response, HttpClientContext.create());
+
+        assertEquals(15_000, keepAlive.toMilliseconds());
+    }
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.gateway.special.exception.manager;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.gateway.special.exception.RateLimitExceededException;
+import ru.practicum.shareit.gateway.special.exception.ServerOverloadedException;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GatewayGlobalExceptionHandlerTest {
+    private final GatewayGlobalExceptionHandler handler = new GatewayGlobalExceptionHandler();
+
+    @Test
+    void handleServerOverloaded_ShouldReturn503WithRetryAfterRoundedUp() {
+        ResponseEntity<Map<String, Object>> response = handler.handleServerOverloaded(
+                new ServerOverloadedException("items", "circuit breaker is open", Duration.ofMillis(2300)));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("SERVER_OVERLOADED", response.getBody().get("error"));
+    }
+
+    @Test
+    void handleServerOverloaded_ShouldAskForAtLeastOneSecond() {
+        ResponseEntity<Map<String, Object>> response = handler.handleServerOverloaded(
+                new ServerOverloadedException("items", "concurrency limit 5 reached", Duration.ZERO));
+
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void handleRateLimitExceeded_ShouldReturn429WithRetryAfter() {
+        ResponseEntity<Map<String, Object>> response = handler.handleRateLimitExceeded(
+                new RateLimitExceededException(7, "/items/search", Duration.ofMillis(200)));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("TOO_MANY_REQUESTS", response.getBody().get("error"));
+    }
+}
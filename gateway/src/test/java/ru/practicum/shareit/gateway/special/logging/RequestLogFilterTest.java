@@ -0,0 +1,66 @@
+package ru.practicum.shareit.gateway.special.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.gateway.special.utils.HttpHeaders;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestLogFilterTest {
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLogFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final RequestLogFilter filter = new RequestLogFilter();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void doFilter_ShouldLogOneLinePerRequestWithPatternStatusAndUser() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/5");
+        request.addHeader(HttpHeaders.SHARER_USER_ID, "7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{itemId}");
+            ((MockHttpServletResponse) res).setStatus(404);
+        });
+
+        assertEquals(1, appender.list.size());
+        String line = appender.list.get(0).getFormattedMessage();
+        assertTrue(line.startsWith("method=GET uri=/items/{itemId} path=/items/5 status=404 duration_ms="), line);
+        assertTrue(line.endsWith(" user=7"), line);
+    }
+
+    @Test
+    void doFilter_WhenChainThrows_ShouldLogStatus500() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/bookings");
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        String line = appender.list.get(0).getFormattedMessage();
+        assertTrue(line.startsWith("method=POST uri=UNKNOWN path=/bookings status=500 "), line);
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.gateway.special.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitPropertiesTest {
+
+    @Test
+    void rule_ShouldRejectBlankPattern() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties.Rule(null, 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties.Rule(" ", 10, 5));
+    }
+
+    @Test
+    void rule_ShouldRejectNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties.Rule("/items/**", 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties.Rule("/items/**", -1, 5));
+    }
+
+    @Test
+    void rule_ShouldRejectNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties.Rule("/items/**", 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties.Rule("/items/**", 10, -2));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitProperties.Rule("/items/**", 10, Double.NaN));
+    }
+
+    @Test
+    void rule_ShouldRejectBurstOverflowingNanoseconds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RateLimitProperties.Rule("/items/**", Integer.MAX_VALUE, 1e-6));
+    }
+
+    @Test
+    void rule_ShouldAcceptSlowAndFastRates() {
+        assertDoesNotThrow(() -> new RateLimitProperties.Rule("/items/**", 1, 0.001));
+        assertDoesNotThrow(() -> new RateLimitProperties.Rule("/items/**", Integer.MAX_VALUE, 1e12));
+    }
+}
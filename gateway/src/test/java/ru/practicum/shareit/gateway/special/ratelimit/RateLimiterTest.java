@@ -0,0 +1,108 @@
+package ru.practicum.shareit.gateway.special.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.gateway.special.exception.RateLimitExceededException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties(true, 1000, Duration.ofMinutes(10),
+            List.of(new RateLimitProperties.Rule("/items/search", 2, 1),
+                    new RateLimitProperties.Rule("/bookings/**", 3, 1))),
+            registry, now::get);
+
+    @Test
+    void tryAcquire_ShouldApplyFirstMatchingRule() {
+        assertAdmitted("/items/search", 1, 2);
+        assertAdmitted("/bookings/{bookingId}", 1, 3);
+        assertTrue(rateLimiter.tryAcquire("/items/search", 1) > 0);
+        assertTrue(rateLimiter.tryAcquire("/bookings", 1) > 0);
+        assertEquals(2.0, registry.get("gateway.rate-limit.rejected").tag("rule", "/items/search").counter().count()
+                + registry.get("gateway.rate-limit.rejected").tag("rule", "/bookings/**").counter().count());
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBucketsPerUser() {
+        assertAdmitted("/items/search", 1, 2);
+
+        assertEquals(0, rateLimiter.tryAcquire("/items/search", 2));
+        assertTrue(rateLimiter.tryAcquire("/items/search", 1) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldNotLimitEndpointsWithoutRule() {
+        assertAdmitted("/users/{userId}", 1, 1000);
+    }
+
+    @Test
+    void tryAcquire_ShouldAdmitAgain_AfterRefill() {
+        assertAdmitted("/items/search", 1, 2);
+        long wait = rateLimiter.tryAcquire("/items/search", 1);
+
+        now.addAndGet(wait);
+
+        assertEquals(0, rateLimiter.tryAcquire("/items/search", 1));
+    }
+
+    @Test
+    void preHandle_ShouldThrow_WhenUserExceedsLimit() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/search");
+        request.addHeader("X-Sharer-User-Id", "7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/search");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(request, response, new Object()));
+        assertEquals(Duration.ofSeconds(1), ex.getRetryAfter());
+    }
+
+    @Test
+    void preHandle_ShouldLetRequestsWithoutUserIdThrough() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/search");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/search");
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        }
+    }
+
+    @Test
+    void preHandle_ShouldShareOneBucketForRequestsWithoutMatchingPattern() {
+        RateLimiter catchAll = new RateLimiter(new RateLimitProperties(true, 1000, Duration.ofMinutes(10),
+                List.of(new RateLimitProperties.Rule("/**", 2, 1))), registry, now::get);
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(catchAll);
+
+        assertTrue(interceptor.preHandle(unmatched("/random-1"), new MockHttpServletResponse(), new Object()));
+        assertTrue(interceptor.preHandle(unmatched("/random-2"), new MockHttpServletResponse(), new Object()));
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(unmatched("/random-3"), new MockHttpServletResponse(), new Object()));
+        assertEquals("Rate limit exceeded for user 7 on /**", ex.getMessage());
+    }
+
+    private static MockHttpServletRequest unmatched(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("X-Sharer-User-Id", "7");
+        return request;
+    }
+
+    private void assertAdmitted(String endpoint, long userId, int times) {
+        for (int i = 0; i < times; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(endpoint, userId), endpoint + " request " + (i + 1));
+        }
+    }
+}
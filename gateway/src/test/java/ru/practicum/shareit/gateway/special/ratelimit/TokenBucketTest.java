@@ -0,0 +1,58 @@
+package ru.practicum.shareit.gateway.special.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+    private static final long START = TimeUnit.SECONDS.toNanos(100);
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final TokenBucket bucket = new TokenBucket(3, 10, START);
+
+    @Test
+    void tryAcquire_ShouldAdmitBurstUpToCapacity() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(START));
+        }
+
+        assertEquals(INTERVAL, bucket.tryAcquire(START));
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtConfiguredRate() {
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(START);
+        }
+
+        assertEquals(INTERVAL / 2, bucket.tryAcquire(START + INTERVAL / 2));
+        assertEquals(0, bucket.tryAcquire(START + INTERVAL));
+        assertTrue(bucket.tryAcquire(START + INTERVAL) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldNotSaveMoreThanCapacity_WhenIdle() {
+        long later = START + TimeUnit.MINUTES.toNanos(1);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(later));
+        }
+
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldNotConsumeTokens_WhenRejected() {
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(START);
+        }
+        for (int i = 0; i < 10; i++) {
+            bucket.tryAcquire(START);
+        }
+
+        assertEquals(0, bucket.tryAcquire(START + INTERVAL));
+    }
+}
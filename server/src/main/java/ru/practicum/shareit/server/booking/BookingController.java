@@ -3,13 +3,20 @@ package ru.practicum.shareit.server.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.server.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.dto.BookingCursor;
 import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.dto.FreeSlotDto;
+import ru.practicum.shareit.server.booking.enums.BookingBatchMode;
 import ru.practicum.shareit.server.booking.service.BookingService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -19,6 +26,7 @@ import java.util.List;
 public class BookingController {
 
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     private final BookingService bookingService;
 
     @PostMapping
@@ -26,20 +34,43 @@ public class BookingController {
             @RequestBody BookingCreateDto requestDto,
             @RequestHeader(USER_ID_HEADER) Long userId) {
 
-        log.info("POST /bookings - Creating booking for user: {}, item: {}",
+        log.debug("POST /bookings - Creating booking for user: {}, item: {}",
                 userId, requestDto.itemId());
 
         BookingResponseDto response = bookingService.createBooking(requestDto, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 201 when every entry was created, 200 when a best-effort batch was partly created,
+     * 422 when nothing was created.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BookingBatchResultDto> createBookings(
+            @RequestBody List<BookingCreateDto> requestDtos,
+            @RequestParam(defaultValue = "ALL_OR_NOTHING") BookingBatchMode mode,
+            @RequestHeader(USER_ID_HEADER) Long userId) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("POST /bookings/batch - Creating {} bookings for user: {}, mode: {}",
+                    requestDtos.size(), userId, mode);
+        }
+
+        BookingBatchResultDto result = bookingService.createBookings(requestDtos, userId, mode);
+        HttpStatus status = result.rejected() == 0 ? HttpStatus.CREATED
+                : result.created() > 0 ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<BookingResponseDto> approveBooking(
             @PathVariable Long bookingId,
             @RequestParam Boolean approved,
             @RequestHeader(USER_ID_HEADER) Long userId) {
-        log.info("PATCH /bookings/{} - User {} {} booking",
-                bookingId, userId, approved ? "approving" : "rejecting");
+        if (log.isDebugEnabled()) {
+            log.debug("PATCH /bookings/{} - User {} {} booking",
+                    bookingId, userId, approved ? "approving" : "rejecting");
+        }
 
         BookingResponseDto response = bookingService.manageBooking(userId, bookingId, approved);
         return ResponseEntity.ok(response);
@@ -50,50 +81,98 @@ public class BookingController {
             @PathVariable Long bookingId,
             @RequestHeader(USER_ID_HEADER) Long userId) {
 
-        log.info("GET /bookings/{} - Getting booking for user: {}", bookingId, userId);
+        log.debug("GET /bookings/{} - Getting booking for user: {}", bookingId, userId);
 
         BookingResponseDto booking = bookingService.getBooking(userId, bookingId);
         return ResponseEntity.ok(booking);
     }
 
-
+    /**
+     * With a cursor the bookings are paged by key and {@code from} is ignored. An empty cursor starts from the
+     * first page; the token for the next page is returned in the {@value NEXT_CURSOR_HEADER} header while more
+     * bookings are available.
+     */
     @GetMapping("/owner")
     public ResponseEntity<List<BookingResponseDto>> getOwnerBookings(
             @RequestHeader(USER_ID_HEADER) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0")  int from,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
 
-        log.info("GET /bookings - Getting bookings for owner: {}, state: {}, from: {}, size: {}",
-                userId, state, from, size);
+        if (log.isDebugEnabled()) {
+            log.debug("GET /bookings - Getting bookings for owner: {}, state: {}, from: {}, size: {}, cursor: {}",
+                    userId, state, from, size, cursor);
+        }
+
+        if (cursor != null) {
+            return toCursorResponse(bookingService.scrollBookingsByOwner(userId, state, decodeCursor(cursor), size));
+        }
 
         List<BookingResponseDto> bookings = bookingService.getBookingsByOwner(userId, state, from, size);
         return ResponseEntity.ok(bookings);
     }
 
+    /**
+     * Pages the booker's bookings like {@link #getOwnerBookings}, by {@code from} or by {@code cursor} with the
+     * next token in the {@value NEXT_CURSOR_HEADER} header.
+     */
     @GetMapping
     public ResponseEntity<List<BookingResponseDto>> getUserBookings(
             @RequestHeader(USER_ID_HEADER) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") int from,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /bookings - Getting bookings for user: {}, state: {}, from: {}, size: {}, cursor: {}",
+                    userId, state, from, size, cursor);
+        }
 
-        log.info("GET /bookings - Getting bookings for user: {}, state: {}, from: {}, size: {}",
-                userId, state, from, size);
+        if (cursor != null) {
+            return toCursorResponse(bookingService.scrollBookingsByBooker(userId, state, decodeCursor(cursor), size));
+        }
 
         List<BookingResponseDto> bookings = bookingService.getBookingsByBooker(userId, state, from, size);
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping("/items/{itemId}/free-slots")
+    public ResponseEntity<List<FreeSlotDto>> getFreeSlots(
+            @PathVariable Long itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /bookings/items/{}/free-slots - from: {}, to: {}", itemId, from, to);
+        }
+
+        List<FreeSlotDto> slots = bookingService.getFreeSlots(itemId, from, to);
+        return ResponseEntity.ok(slots);
+    }
+
     @PatchMapping("/{bookingId}/cancel")
     public ResponseEntity<BookingResponseDto> cancelBooking(
             @PathVariable Long bookingId,
             @RequestHeader(USER_ID_HEADER) Long userId) {
 
-        log.info("PATCH /bookings/{}/cancel - User {} cancelling booking",
+        log.debug("PATCH /bookings/{}/cancel - User {} cancelling booking",
                 bookingId, userId);
 
         BookingResponseDto response = bookingService.cancelBooking(bookingId, userId);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    private static BookingCursor decodeCursor(String cursor) {
+        return cursor.isBlank() ? null : BookingCursor.decode(cursor);
+    }
+
+    private static ResponseEntity<List<BookingResponseDto>> toCursorResponse(Slice<BookingResponseDto> slice) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (slice.hasNext() && slice.hasContent()) {
+            response.header(NEXT_CURSOR_HEADER, BookingCursor.of(slice.getContent().getLast()).encode());
+        }
+        return response.body(slice.getContent());
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.server.booking.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks shared by all items. Work for the same item always lands on the same stripe,
+ * while different items spread over the stripes and proceed in parallel.
+ */
+@Component
+public class BookingAdmissionLocks {
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public BookingAdmissionLocks(@Value("${shareit.booking.admission.lock-stripes:64}") int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Lock stripe count must be positive: " + stripeCount);
+        }
+
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[Math.max(size, 1)];
+        this.mask = stripes.length - 1;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withItemLock(Long itemId, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeFor(itemId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Holds the locks of all given items. Stripes are taken in ascending order, so two batches sharing
+     * items cannot deadlock, and a stripe shared by several items is taken once.
+     */
+    public <T> T withItemLocks(Collection<Long> itemIds, Supplier<T> action) {
+        int[] stripeIndexes = itemIds.stream()
+                .mapToInt(this::stripeFor)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int locked = 0;
+        try {
+            for (int stripe : stripeIndexes) {
+                stripes[stripe].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[stripeIndexes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripeFor(Long itemId) {
+        int hash = Long.hashCode(itemId);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
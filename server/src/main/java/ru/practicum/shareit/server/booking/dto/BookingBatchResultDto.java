@@ -0,0 +1,15 @@
+package ru.practicum.shareit.server.booking.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch booking request. Results follow the order of the request; an entry has either the created
+ * booking or the reason it was rejected. A valid entry of a rejected all-or-nothing batch has neither.
+ */
+public record BookingBatchResultDto(
+        int created,
+        int rejected,
+        List<Entry> results
+) {
+    public record Entry(int index, Long itemId, BookingResponseDto booking, String error) {}
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.server.booking.dto;
+
+import ru.practicum.shareit.server.exception.common.InvalidParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last booking on a page in {@code (bookingStartDate DESC, id DESC)} order.
+ * Clients only see it as an opaque token.
+ */
+public record BookingCursor(LocalDateTime bookingStartDate, Long id) {
+    private static final char SEPARATOR = '_';
+
+    public static BookingCursor of(BookingResponseDto booking) {
+        return new BookingCursor(booking.bookingStartDate(), booking.id());
+    }
+
+    public static BookingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new BookingCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidParameterException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = bookingStartDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
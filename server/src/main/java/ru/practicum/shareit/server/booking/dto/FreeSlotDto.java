@@ -0,0 +1,12 @@
+package ru.practicum.shareit.server.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+public record FreeSlotDto(
+        @JsonProperty("start")
+        LocalDateTime start,
+        @JsonProperty("end")
+        LocalDateTime end
+) { }
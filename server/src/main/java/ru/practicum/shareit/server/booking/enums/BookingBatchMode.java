@@ -0,0 +1,12 @@
+package ru.practicum.shareit.server.booking.enums;
+
+public enum BookingBatchMode {
+    /**
+     * Nothing is created unless every entry of the batch is valid.
+     */
+    ALL_OR_NOTHING,
+    /**
+     * Valid entries are created, invalid ones are reported and skipped.
+     */
+    BEST_EFFORT
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.server.booking.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class BookingOverlapException extends RuntimeException {
+    public BookingOverlapException(Long itemId) {
+        super(String.format("Item %d is already booked for the requested period", itemId));
+    }
+}
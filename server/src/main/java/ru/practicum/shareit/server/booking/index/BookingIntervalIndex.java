@@ -0,0 +1,270 @@
+package ru.practicum.shareit.server.booking.index;
+
+import jakarta.validation.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.server.booking.dto.FreeSlotDto;
+import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.booking.repository.BookingRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory index of WAITING and APPROVED bookings per item.
+ * Intervals are half-open {@code [start, end)} and kept sorted by start date, so overlap checks
+ * and free slot lookups do not need a database round-trip.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingIntervalIndex implements SmartInitializingSingleton {
+    private static final Set<BookingStatus> INDEXED_STATUSES = EnumSet.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+    private final BookingRepository bookingRepository;
+    private final ConcurrentMap<Long, ItemTimeline> timelines = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the index once every bean is created and before the web server starts accepting connections,
+     * since the index is what keeps overlapping bookings out.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void afterSingletonsInstantiated() {
+        List<Booking> bookings = bookingRepository.findAllByStatusInAndBookingEndDateAfter(
+                INDEXED_STATUSES, LocalDateTime.now());
+
+        for (Booking booking : bookings) {
+            Interval interval = toInterval(booking);
+            if (interval.isEmpty()) {
+                log.warn("Booking id={} ends before it starts, not indexed", booking.getId());
+                continue;
+            }
+            timeline(booking.getItem().getId()).add(interval);
+        }
+
+        log.info("Booking interval index warmed up with {} bookings for {} items",
+                bookings.size(), timelines.size());
+    }
+
+    /**
+     * Atomically checks that the booking does not overlap any indexed booking of the same item and adds it.
+     * If the surrounding transaction rolls back, the reservation is released.
+     *
+     * @return {@code false} if the period is already taken
+     * @throws ValidationException if the booking does not end after it starts
+     */
+    public boolean tryReserve(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        Interval interval = toInterval(booking);
+        if (interval.isEmpty()) {
+            throw new ValidationException("Booking end must be after its start");
+        }
+
+        if (!timeline(itemId).addIfFree(interval)) {
+            return false;
+        }
+
+        afterRollback(() -> release(itemId, interval.bookingId()));
+        return true;
+    }
+
+    public boolean hasOverlap(Long itemId, LocalDateTime start, LocalDateTime end, Long excludedBookingId) {
+        ItemTimeline timeline = timelines.get(itemId);
+        return timeline != null && timeline.overlaps(start, end, excludedBookingId);
+    }
+
+    /**
+     * Removes the booking from the index once the surrounding transaction commits.
+     */
+    public void remove(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        Long bookingId = booking.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release(itemId, bookingId);
+                }
+            });
+        } else {
+            release(itemId, bookingId);
+        }
+    }
+
+    public List<FreeSlotDto> findFreeSlots(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+
+        ItemTimeline timeline = timelines.get(itemId);
+        if (timeline == null) {
+            return List.of(new FreeSlotDto(from, to));
+        }
+        return timeline.freeSlots(from, to);
+    }
+
+    private void release(Long itemId, Long bookingId) {
+        ItemTimeline timeline = timelines.get(itemId);
+        if (timeline != null) {
+            timeline.remove(bookingId);
+        }
+    }
+
+    private ItemTimeline timeline(Long itemId) {
+        return timelines.computeIfAbsent(itemId, id -> new ItemTimeline());
+    }
+
+    private static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static Interval toInterval(Booking booking) {
+        return new Interval(booking.getId(), booking.getBookingStartDate(), booking.getBookingEndDate());
+    }
+
+    private record Interval(Long bookingId, LocalDateTime start, LocalDateTime end) {
+        private static final Comparator<Interval> ORDER = Comparator
+                .comparing(Interval::start)
+                .thenComparing(Interval::bookingId);
+
+        static Interval probe(LocalDateTime start) {
+            return new Interval(Long.MIN_VALUE, start, start);
+        }
+
+        boolean isEmpty() {
+            return !start.isBefore(end);
+        }
+
+        Duration duration() {
+            return Duration.between(start, end);
+        }
+
+        boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+            return start.isBefore(otherEnd) && otherStart.isBefore(end);
+        }
+    }
+
+    /**
+     * Intervals of a single item ordered by start date. New intervals are only accepted when free, so
+     * the set stays disjoint and an overlap check touches a single neighbour. Intervals loaded on warm-up
+     * may still overlap each other; the longest duration currently in the set bounds how far back a check
+     * has to look, and it shrinks again when that interval is released.
+     */
+    private static final class ItemTimeline {
+        private final NavigableSet<Interval> intervals = new TreeSet<>(Interval.ORDER);
+        private final Map<Long, Interval> byBookingId = new HashMap<>();
+        private final NavigableMap<Duration, Integer> durations = new TreeMap<>();
+
+        synchronized void add(Interval interval) {
+            Interval previous = byBookingId.put(interval.bookingId(), interval);
+            if (previous != null) {
+                forget(previous);
+            }
+
+            intervals.add(interval);
+            durations.merge(interval.duration(), 1, Integer::sum);
+        }
+
+        synchronized boolean addIfFree(Interval interval) {
+            evictFinished(LocalDateTime.now());
+            if (overlaps(interval.start(), interval.end(), interval.bookingId())) {
+                return false;
+            }
+
+            add(interval);
+            return true;
+        }
+
+        synchronized void remove(Long bookingId) {
+            Interval interval = byBookingId.remove(bookingId);
+            if (interval != null) {
+                forget(interval);
+            }
+        }
+
+        synchronized boolean overlaps(LocalDateTime start, LocalDateTime end, Long excludedBookingId) {
+            LocalDateTime horizon = start.minus(longest());
+
+            for (Interval candidate : intervals.headSet(Interval.probe(end), false).descendingSet()) {
+                if (!candidate.start().isAfter(horizon)) {
+                    return false;
+                }
+                if (candidate.overlaps(start, end) && !candidate.bookingId().equals(excludedBookingId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized List<FreeSlotDto> freeSlots(LocalDateTime from, LocalDateTime to) {
+            List<FreeSlotDto> slots = new ArrayList<>();
+            LocalDateTime cursor = from;
+
+            for (Interval interval : intervals.subSet(Interval.probe(from.minus(longest())), true,
+                    Interval.probe(to), false)) {
+                if (!interval.end().isAfter(cursor)) {
+                    continue;
+                }
+                if (interval.start().isAfter(cursor)) {
+                    slots.add(new FreeSlotDto(cursor, interval.start()));
+                }
+                cursor = interval.end();
+                if (!cursor.isBefore(to)) {
+                    return slots;
+                }
+            }
+
+            slots.add(new FreeSlotDto(cursor, to));
+            return slots;
+        }
+
+        private void evictFinished(LocalDateTime now) {
+            LocalDateTime horizon = now.minus(longest());
+            List<Interval> finished = new ArrayList<>();
+            for (Interval interval : intervals) {
+                if (interval.start().isAfter(horizon)) {
+                    break;
+                }
+                if (!interval.end().isAfter(now)) {
+                    finished.add(interval);
+                }
+            }
+
+            for (Interval interval : finished) {
+                byBookingId.remove(interval.bookingId());
+                forget(interval);
+            }
+        }
+
+        private void forget(Interval interval) {
+            intervals.remove(interval);
+            durations.computeIfPresent(interval.duration(), (duration, count) -> count == 1 ? null : count - 1);
+        }
+
+        private Duration longest() {
+            return durations.isEmpty() ? Duration.ZERO : durations.lastKey();
+        }
+    }
+}
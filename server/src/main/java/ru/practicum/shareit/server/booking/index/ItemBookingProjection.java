@@ -0,0 +1,179 @@
+package ru.practicum.shareit.server.booking.index;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.booking.repository.BookingRepository;
+import ru.practicum.shareit.server.cache.VersionedCache;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Last/next APPROVED booking dates per item, as shown on the owner item pages.
+ * Items are loaded lazily in batches and then kept up to date by booking decisions after commit.
+ * Reads roll the projection forward to the current time: finished bookings move into
+ * {@code lastBookingEnd} and the next booking is the first one starting after now.
+ */
+@Component
+public class ItemBookingProjection implements MeterBinder {
+    private final BookingRepository bookingRepository;
+    private final VersionedCache<ItemBookings> projections;
+
+    public ItemBookingProjection(BookingRepository bookingRepository,
+                                 @Value("${shareit.cache.booking-dates:maximumSize=10000,expireAfterWrite=30m}")
+                                 String spec) {
+        this.bookingRepository = bookingRepository;
+        this.projections = new VersionedCache<>("booking-dates", spec);
+    }
+
+    public record BookingDates(LocalDateTime lastBookingEnd, LocalDateTime nextBookingStart) {
+        public static final BookingDates EMPTY = new BookingDates(null, null);
+    }
+
+    public BookingDates get(Long itemId) {
+        return getAll(List.of(itemId)).getOrDefault(itemId, BookingDates.EMPTY);
+    }
+
+    public Map<Long, BookingDates> getAll(Collection<Long> itemIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, BookingDates> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        Map<Long, ItemBookings> cached = projections.getAllPresent(itemIds);
+        for (Long itemId : itemIds) {
+            ItemBookings bookings = cached.get(itemId);
+            if (bookings == null) {
+                missing.add(itemId);
+            } else {
+                result.put(itemId, bookings.datesAt(now));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            load(missing, now).forEach((itemId, bookings) -> result.put(itemId, bookings.datesAt(now)));
+        }
+        return result;
+    }
+
+    public void approved(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        Interval interval = new Interval(booking.getId(), booking.getBookingStartDate(), booking.getBookingEndDate());
+
+        projections.updateAfterCommit(itemId, bookings -> {
+            bookings.add(interval);
+            return bookings;
+        });
+    }
+
+    /**
+     * Drops a booking that is no longer approved. Bookings that already finished may have defined
+     * {@code lastBookingEnd}, so the item is reloaded on the next read instead.
+     */
+    public void withdrawn(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        Long bookingId = booking.getId();
+
+        if (booking.getBookingEndDate().isBefore(LocalDateTime.now())) {
+            projections.updateAfterCommit(itemId, null);
+        } else {
+            projections.updateAfterCommit(itemId, bookings -> {
+                bookings.remove(bookingId);
+                return bookings;
+            });
+        }
+    }
+
+    public void evict(Long itemId) {
+        projections.updateAfterCommit(itemId, null);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        projections.bindTo(registry);
+    }
+
+    private Map<Long, ItemBookings> load(List<Long> itemIds, LocalDateTime now) {
+        Map<Long, Long> loadedVersions = new HashMap<>();
+        Map<Long, ItemBookings> loaded = new HashMap<>();
+        for (Long itemId : itemIds) {
+            loadedVersions.put(itemId, projections.version(itemId));
+            loaded.put(itemId, new ItemBookings());
+        }
+
+        for (Object[] row : bookingRepository.findLastBookingEndDates(itemIds, BookingStatus.APPROVED, now)) {
+            loaded.get((Long) row[0]).finish((LocalDateTime) row[1]);
+        }
+        for (Booking booking : bookingRepository.findAllByItemIdInAndStatusAndBookingEndDateGreaterThanEqual(
+                itemIds, BookingStatus.APPROVED, now)) {
+            loaded.get(booking.getItem().getId()).add(
+                    new Interval(booking.getId(), booking.getBookingStartDate(), booking.getBookingEndDate()));
+        }
+
+        // a decision committed while loading may be missing from the rows, such items stay uncached
+        loaded.forEach((itemId, bookings) ->
+                projections.putIfUnchanged(itemId, loadedVersions.get(itemId), bookings));
+        return loaded;
+    }
+
+    private record Interval(Long bookingId, LocalDateTime start, LocalDateTime end) {
+        private static final Comparator<Interval> ORDER = Comparator
+                .comparing(Interval::start)
+                .thenComparing(Interval::bookingId);
+
+        static Interval after(LocalDateTime start) {
+            return new Interval(Long.MAX_VALUE, start, start);
+        }
+    }
+
+    /**
+     * Approved bookings of one item that had not finished when last read, ordered by start date.
+     */
+    private static final class ItemBookings {
+        private final NavigableSet<Interval> pending = new TreeSet<>(Interval.ORDER);
+        private final Map<Long, Interval> byBookingId = new HashMap<>();
+        private LocalDateTime lastBookingEnd;
+
+        synchronized void add(Interval interval) {
+            Interval previous = byBookingId.put(interval.bookingId(), interval);
+            if (previous != null) {
+                pending.remove(previous);
+            }
+            pending.add(interval);
+        }
+
+        synchronized void remove(Long bookingId) {
+            Interval interval = byBookingId.remove(bookingId);
+            if (interval != null) {
+                pending.remove(interval);
+            }
+        }
+
+        synchronized BookingDates datesAt(LocalDateTime now) {
+            Iterator<Interval> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                Interval interval = iterator.next();
+                if (!interval.start().isBefore(now)) {
+                    break;
+                }
+                if (interval.end().isBefore(now)) {
+                    iterator.remove();
+                    byBookingId.remove(interval.bookingId());
+                    finish(interval.end());
+                }
+            }
+
+            Interval next = pending.higher(Interval.after(now));
+            return new BookingDates(lastBookingEnd, next == null ? null : next.start());
+        }
+
+        private void finish(LocalDateTime end) {
+            if (lastBookingEnd == null || end.isAfter(lastBookingEnd)) {
+                lastBookingEnd = end;
+            }
+        }
+    }
+}
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Table(name = "bookings")
 public class Booking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookingSeqGen")
+    @SequenceGenerator(name = "bookingSeqGen", sequenceName = "booking_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
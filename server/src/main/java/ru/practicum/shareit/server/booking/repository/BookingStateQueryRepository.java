@@ -0,0 +1,16 @@
+package ru.practicum.shareit.server.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.server.booking.dto.BookingCursor;
+import ru.practicum.shareit.server.booking.model.Booking;
+
+import java.time.LocalDateTime;
+
+public interface BookingStateQueryRepository {
+    Slice<Booking> findByBookerIdAndState(Long bookerId, BookingStateFilter state, LocalDateTime now,
+                                          BookingCursor after, Pageable pageable);
+
+    Slice<Booking> findByOwnerIdAndState(Long ownerId, BookingStateFilter state, LocalDateTime now,
+                                         BookingCursor after, Pageable pageable);
+}
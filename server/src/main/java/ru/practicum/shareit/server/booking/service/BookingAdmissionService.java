@@ -0,0 +1,106 @@
+package ru.practicum.shareit.server.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.server.booking.admission.BookingAdmissionLocks;
+import ru.practicum.shareit.server.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.dto.BookingCursor;
+import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.dto.FreeSlotDto;
+import ru.practicum.shareit.server.booking.enums.BookingBatchMode;
+import ru.practicum.shareit.server.booking.exception.BookingNotFoundException;
+import ru.practicum.shareit.server.booking.repository.BookingRepository;
+import ru.practicum.shareit.server.booking.service.util.BookingServiceUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serializes state-changing booking operations per item. The item lock is taken before
+ * {@link BookingServiceImpl} opens its transaction and released after it commits, so the next
+ * request for the same item always sees committed state without SERIALIZABLE isolation.
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+public class BookingAdmissionService implements BookingService {
+    private final BookingServiceImpl bookingService;
+    private final BookingAdmissionLocks admissionLocks;
+    private final BookingRepository bookingRepository;
+
+    @Override
+    public BookingResponseDto createBooking(BookingCreateDto bookingCreateDto, Long userId) {
+        // checked before the lock, which needs the item id to pick a stripe
+        BookingServiceUtils.validateItemId(bookingCreateDto);
+        return admissionLocks.withItemLock(bookingCreateDto.itemId(),
+                () -> bookingService.createBooking(bookingCreateDto, userId));
+    }
+
+    @Override
+    public BookingBatchResultDto createBookings(List<BookingCreateDto> bookingCreateDtos, Long userId,
+                                                BookingBatchMode mode) {
+        Set<Long> itemIds = bookingCreateDtos.stream()
+                .map(BookingCreateDto::itemId)
+                // entries without an item id take no lock, the service rejects them one by one
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return admissionLocks.withItemLocks(itemIds,
+                () -> bookingService.createBookings(bookingCreateDtos, userId, mode));
+    }
+
+    @Override
+    public BookingResponseDto cancelBooking(Long bookingId, Long bookerId) {
+        return admissionLocks.withItemLock(itemIdOf(bookingId),
+                () -> bookingService.cancelBooking(bookingId, bookerId));
+    }
+
+    @Override
+    public BookingResponseDto manageBooking(Long itemOwnerId, Long bookingId, Boolean approved) {
+        return admissionLocks.withItemLock(itemIdOf(bookingId),
+                () -> bookingService.manageBooking(itemOwnerId, bookingId, approved));
+    }
+
+    @Override
+    public BookingResponseDto getBooking(Long requesterId, Long bookingId) {
+        return bookingService.getBooking(requesterId, bookingId);
+    }
+
+    @Override
+    public List<BookingResponseDto> getBookingsByBooker(Long userId, String state, int from, int size) {
+        return bookingService.getBookingsByBooker(userId, state, from, size);
+    }
+
+    @Override
+    public List<BookingResponseDto> getBookingsByOwner(Long userId, String state, int from, int size) {
+        return bookingService.getBookingsByOwner(userId, state, from, size);
+    }
+
+    @Override
+    public Slice<BookingResponseDto> scrollBookingsByBooker(Long userId, String state,
+                                                            BookingCursor after, int size) {
+        return bookingService.scrollBookingsByBooker(userId, state, after, size);
+    }
+
+    @Override
+    public Slice<BookingResponseDto> scrollBookingsByOwner(Long userId, String state,
+                                                           BookingCursor after, int size) {
+        return bookingService.scrollBookingsByOwner(userId, state, after, size);
+    }
+
+    @Override
+    public List<FreeSlotDto> getFreeSlots(Long itemId, LocalDateTime from, LocalDateTime to) {
+        return bookingService.getFreeSlots(itemId, from, to);
+    }
+
+    private Long itemIdOf(Long bookingId) {
+        return bookingRepository.findItemIdById(bookingId)
+                .orElseThrow(() -> new BookingNotFoundException(
+                        String.format("Booking with id=%d not found", bookingId)));
+    }
+}
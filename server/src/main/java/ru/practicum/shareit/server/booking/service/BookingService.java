@@ -1,12 +1,21 @@
 package ru.practicum.shareit.server.booking.service;
 
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.server.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.dto.BookingCursor;
 import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.dto.FreeSlotDto;
+import ru.practicum.shareit.server.booking.enums.BookingBatchMode;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BookingService {
     BookingResponseDto createBooking(BookingCreateDto bookingCreateDto, Long userId);
 
+    BookingBatchResultDto createBookings(List<BookingCreateDto> bookingCreateDtos, Long userId, BookingBatchMode mode);
+
     BookingResponseDto cancelBooking(Long bookingId, Long bookerId);
 
     BookingResponseDto manageBooking(Long itemOwnerId, Long bookingId, Boolean approved);
@@ -16,4 +25,10 @@ public interface BookingService {
     List<BookingResponseDto> getBookingsByBooker(Long userId, String state, int from, int size);
 
     List<BookingResponseDto> getBookingsByOwner(Long userId, String state, int from, int size);
+
+    Slice<BookingResponseDto> scrollBookingsByBooker(Long userId, String state, BookingCursor after, int size);
+
+    Slice<BookingResponseDto> scrollBookingsByOwner(Long userId, String state, BookingCursor after, int size);
+
+    List<FreeSlotDto> getFreeSlots(Long itemId, LocalDateTime from, LocalDateTime to);
 }
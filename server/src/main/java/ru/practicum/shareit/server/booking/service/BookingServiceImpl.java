@@ -1,31 +1,47 @@
 package ru.practicum.shareit.server.booking.service;
 
+import jakarta.validation.ValidationException;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import ru.practicum.shareit.server.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.dto.BookingCursor;
 import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.dto.FreeSlotDto;
+import ru.practicum.shareit.server.booking.enums.BookingBatchMode;
 import ru.practicum.shareit.server.booking.enums.BookingStatus;
 import ru.practicum.shareit.server.booking.exception.BookingAccessDeniedException;
 import ru.practicum.shareit.server.booking.exception.BookingNotFoundException;
+import ru.practicum.shareit.server.booking.exception.BookingOverlapException;
+import ru.practicum.shareit.server.booking.index.BookingIntervalIndex;
+import ru.practicum.shareit.server.booking.index.ItemBookingProjection;
 import ru.practicum.shareit.server.booking.mapper.BookingMapper;
 import ru.practicum.shareit.server.booking.model.Booking;
 import ru.practicum.shareit.server.booking.repository.BookingRepository;
+import ru.practicum.shareit.server.booking.repository.BookingStateFilter;
 import ru.practicum.shareit.server.booking.service.util.BookingServiceUtils;
+import ru.practicum.shareit.server.cache.EntityCache;
 import ru.practicum.shareit.server.item.exceptions.ItemNotFoundException;
 import ru.practicum.shareit.server.item.exceptions.UserNotFoundException;
 import ru.practicum.shareit.server.item.model.Item;
 import ru.practicum.shareit.server.item.repository.ItemRepository;
+import ru.practicum.shareit.server.item.search.ItemSearchEngine;
 import ru.practicum.shareit.server.user.entity.User;
-import ru.practicum.shareit.server.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,18 +49,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
-    private final BookingMapper bookingMapper;
-    private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final BookingMapper bookingMapper;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final ItemBookingProjection itemBookingProjection;
+    private final EntityCache<User> userCache;
+    private final EntityCache<Item> itemCache;
+    private final ItemSearchEngine itemSearchEngine;
 
     @Transactional
     @Override
     public BookingResponseDto createBooking(BookingCreateDto bookingCreateDto, Long bookerId) {
-        User booker = userRepository.findById(bookerId)
+        User booker = userCache.findById(bookerId)
                 .orElseThrow(() -> new UserNotFoundException(
                         String.format("User with id=%d not found", bookerId)));
 
-        Item item = itemRepository.findById(bookingCreateDto.itemId())
+        Item item = itemCache.findById(bookingCreateDto.itemId())
                 .orElseThrow(() -> new ItemNotFoundException(
                         String.format("Item with id=%d not found", bookingCreateDto.itemId())));
 
@@ -58,10 +78,83 @@ public class BookingServiceImpl implements BookingService {
 
         this.bookingRepository.save(booking);
 
+        if (!bookingIntervalIndex.tryReserve(booking)) {
+            throw new BookingOverlapException(item.getId());
+        }
+
         log.info("Booking created with id={} for user={}", booking.getId(), bookerId);
         return this.bookingMapper.toDto(booking);
     }
 
+    /**
+     * Loads the booker once and all items with one query, validates every entry with the rules of
+     * {@link #createBooking}, and saves the accepted bookings together. Entries of the same batch may not
+     * overlap each other either. In {@link BookingBatchMode#ALL_OR_NOTHING} mode nothing is saved unless
+     * all entries are valid.
+     */
+    @Transactional
+    @Override
+    public BookingBatchResultDto createBookings(List<BookingCreateDto> bookingCreateDtos, Long bookerId,
+                                                BookingBatchMode mode) {
+        User booker = userCache.findById(bookerId)
+                .orElseThrow(() -> new UserNotFoundException(
+                        String.format("User with id=%d not found", bookerId)));
+
+        Set<Long> itemIds = bookingCreateDtos.stream()
+                .map(BookingCreateDto::itemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        LocalDateTime created = LocalDateTime.now();
+        Booking[] bookings = new Booking[bookingCreateDtos.size()];
+        String[] errors = new String[bookingCreateDtos.size()];
+        Map<Long, List<Booking>> acceptedByItem = new HashMap<>();
+        int rejected = 0;
+
+        for (int i = 0; i < bookingCreateDtos.size(); i++) {
+            BookingCreateDto dto = bookingCreateDtos.get(i);
+            try {
+                Item item = validateBatchEntry(dto, items, booker.getId(), acceptedByItem);
+
+                Booking booking = bookingMapper.toEntity(dto);
+                booking.setItem(item);
+                booking.setBooker(booker);
+                booking.setStatus(BookingStatus.WAITING);
+                booking.setCreated(created);
+                bookings[i] = booking;
+                acceptedByItem.computeIfAbsent(item.getId(), id -> new ArrayList<>()).add(booking);
+            } catch (ValidationException | ItemNotFoundException | BookingOverlapException e) {
+                errors[i] = e.getMessage();
+                rejected++;
+            }
+        }
+
+        boolean save = rejected == 0 || mode == BookingBatchMode.BEST_EFFORT;
+        if (save) {
+            List<Booking> accepted = Arrays.stream(bookings).filter(Objects::nonNull).toList();
+            bookingRepository.saveAll(accepted);
+            for (Booking booking : accepted) {
+                // entries were checked against the index under the item locks, so this only fails on a bug
+                if (!bookingIntervalIndex.tryReserve(booking)) {
+                    throw new BookingOverlapException(booking.getItem().getId());
+                }
+            }
+        }
+
+        List<BookingBatchResultDto.Entry> results = new ArrayList<>(bookingCreateDtos.size());
+        for (int i = 0; i < bookingCreateDtos.size(); i++) {
+            BookingResponseDto booking = save && bookings[i] != null ? bookingMapper.toDto(bookings[i]) : null;
+            results.add(new BookingBatchResultDto.Entry(i, bookingCreateDtos.get(i).itemId(), booking, errors[i]));
+        }
+        int createdCount = save ? bookingCreateDtos.size() - rejected : 0;
+
+        log.info("Batch of {} bookings for user={} in {} mode: {} created, {} rejected",
+                bookingCreateDtos.size(), bookerId, mode, createdCount, rejected);
+        return new BookingBatchResultDto(createdCount, rejected, results);
+    }
+
     @Override
     @Transactional
     public BookingResponseDto cancelBooking(Long bookingId, Long bookerId) {
@@ -71,31 +164,43 @@ public class BookingServiceImpl implements BookingService {
         BookingServiceUtils.validateCancellationRules(booking, bookerId);
 
         booking.setStatus(BookingStatus.CANCELLED);
+        bookingIntervalIndex.remove(booking);
+        itemBookingProjection.withdrawn(booking);
         log.info("Booking id={} cancelled by user id={}", bookingId, bookerId);
 
         Item item = booking.getItem();
         item.setAvailable(true);
+        itemCache.evict(item.getId());
+        itemSearchEngine.index(item);
         return bookingMapper.toDto(booking);
     }
 
     @Override
     @Transactional
     public BookingResponseDto manageBooking(Long requesterId, Long bookingId, Boolean approved) {
-        Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> new BookingNotFoundException(
-                String.format("Booking with id=%d not found", bookingId)));
+        Booking booking = bookingRepository.findWithItemAndBookerById(bookingId)
+                .orElseThrow(() -> new BookingNotFoundException(
+                        String.format("Booking with id=%d not found", bookingId)));
 
         BookingServiceUtils.checkOwnerAndRequestor(booking, requesterId);
+        BookingServiceUtils.validateDecisionRules(booking);
 
         Item item = booking.getItem();
         if (approved) {
             booking.setStatus(BookingStatus.APPROVED);
             item.setAvailable(false);
+            itemBookingProjection.approved(booking);
         } else {
             booking.setStatus(BookingStatus.REJECTED);
             item.setAvailable(true);
+            bookingIntervalIndex.remove(booking);
+            itemBookingProjection.withdrawn(booking);
         }
 
-        log.info("User {} {} booking {}", item.getOwner(),
+        itemCache.evict(item.getId());
+        itemSearchEngine.index(item);
+
+        log.info("User {} {} booking {}", requesterId,
                 approved ? "approving" : "rejecting", bookingId);
 
         return bookingMapper.toDto(booking);
@@ -105,8 +210,9 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(readOnly = true)
     @Override
     public BookingResponseDto getBooking(Long requesterId, Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> new BookingNotFoundException(
-                String.format("Booking with id=%d not found", bookingId)));
+        Booking booking = bookingRepository.findWithItemAndBookerById(bookingId)
+                .orElseThrow(() -> new BookingNotFoundException(
+                        String.format("Booking with id=%d not found", bookingId)));
         validateBookingAccessOrThrow(booking, requesterId);
 
         return bookingMapper.toDto(booking);
@@ -128,40 +234,115 @@ public class BookingServiceImpl implements BookingService {
                 "owner");
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<BookingResponseDto> scrollBookingsByBooker(Long userId, String state,
+                                                            BookingCursor after, int size) {
+        return scrollBookings(userId, state, after, size,
+                bookingRepository::findByBookerIdAndState,
+                "booker");
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<BookingResponseDto> scrollBookingsByOwner(Long userId, String state,
+                                                           BookingCursor after, int size) {
+        return scrollBookings(userId, state, after, size,
+                bookingRepository::findByOwnerIdAndState,
+                "owner");
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<FreeSlotDto> getFreeSlots(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (!itemCache.existsById(itemId)) {
+            throw new ItemNotFoundException(String.format("Item with id=%d not found", itemId));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime effectiveFrom = from.isBefore(now) ? now : from;
+
+        return bookingIntervalIndex.findFreeSlots(itemId, effectiveFrom, to);
+    }
+
     @FunctionalInterface
     private interface BookingQuery {
-        Page<Booking> find(Long userId, String state, LocalDateTime now, Pageable pageable);
+        Slice<Booking> find(Long userId, BookingStateFilter state, LocalDateTime now,
+                            BookingCursor after, Pageable pageable);
     }
 
     private List<BookingResponseDto> getBookings(Long userId, String state, int from, int size,
                                                  BookingQuery query, String userRole) {
-        log.info("Getting bookings where user {} is {}, state: {}", userId, userRole, state);
-
-        if (!userRepository.existsById(userId)) {
-            log.warn("User with ID {} not found", userId);
-            throw new UserNotFoundException("User not found");
-        }
+        BookingStateFilter stateFilter = BookingStateFilter.from(state);
+        checkUserExists(userId);
 
         int page = from / size;
-        Pageable pageable = PageRequest.of(page, size,
-                Sort.by("bookingStartDate").descending());
-
-        log.debug("Calling repository with page={}, size={}", page, size);
+        Pageable pageable = PageRequest.of(page, size);
 
-        Page<Booking> pageResult = query.find(
+        Slice<Booking> sliceResult = query.find(
                 userId,
-                state.toUpperCase(),
+                stateFilter,
                 LocalDateTime.now(),
+                null,
                 pageable);
 
-        log.info("Found {} bookings out of {} total for user {} as {}",
-                pageResult.getNumberOfElements(), pageResult.getTotalElements(), userId, userRole);
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} bookings where user {} is {}, state: {}, page: {}, size: {}",
+                    sliceResult.getNumberOfElements(), userId, userRole, state, page, size);
+        }
 
-        return pageResult.getContent().stream()
+        return sliceResult.getContent().stream()
                 .map(bookingMapper::toDto)
                 .collect(Collectors.toList());
     }
 
+    private Slice<BookingResponseDto> scrollBookings(Long userId, String state, BookingCursor after,
+                                                     int size, BookingQuery query, String userRole) {
+        if (log.isDebugEnabled()) {
+            log.debug("Scrolling bookings where user {} is {}, state: {}, after: {}", userId, userRole, state, after);
+        }
+
+        BookingStateFilter stateFilter = BookingStateFilter.from(state);
+        checkUserExists(userId);
+
+        Slice<Booking> sliceResult = query.find(
+                userId,
+                stateFilter,
+                LocalDateTime.now(),
+                after,
+                PageRequest.of(0, size));
+
+        return sliceResult.map(bookingMapper::toDto);
+    }
+
+    private Item validateBatchEntry(BookingCreateDto dto, Map<Long, Item> items, Long bookerId,
+                                    Map<Long, List<Booking>> acceptedByItem) {
+        BookingServiceUtils.validateItemId(dto);
+        Item item = items.get(dto.itemId());
+        if (item == null) {
+            throw new ItemNotFoundException(String.format("Item with id=%d not found", dto.itemId()));
+        }
+
+        BookingServiceUtils.validateBookingRules(bookerId, item, dto);
+
+        LocalDateTime start = dto.bookingStartDate();
+        LocalDateTime end = dto.bookingEndDate();
+        boolean overlapsBatch = acceptedByItem.getOrDefault(item.getId(), List.of()).stream()
+                .anyMatch(other -> other.getBookingStartDate().isBefore(end)
+                        && start.isBefore(other.getBookingEndDate()));
+        if (overlapsBatch || bookingIntervalIndex.hasOverlap(item.getId(), start, end, null)) {
+            throw new BookingOverlapException(item.getId());
+        }
+        return item;
+    }
+
+    private void checkUserExists(Long userId) {
+        if (!userCache.existsById(userId)) {
+            log.warn("User with ID {} not found", userId);
+            throw new UserNotFoundException("User not found");
+        }
+    }
+
     private void validateBookingAccessOrThrow(Booking booking, Long requesterId) {
         boolean isOwner = booking.getItem().getOwner().getId().equals(requesterId);
         boolean isBooker = booking.getBooker().getId().equals(requesterId);
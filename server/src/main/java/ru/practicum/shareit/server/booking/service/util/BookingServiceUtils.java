@@ -11,6 +11,12 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 public class BookingServiceUtils {
+    public static void validateItemId(BookingCreateDto dto) {
+        if (dto.itemId() == null) {
+            throw new ValidationException("Booking item id is required");
+        }
+    }
+
     public static void validateBookingRules(Long bookerId, Item item, BookingCreateDto dto) {
         if (item.getOwner().getId().equals(bookerId)) {
             throw new ValidationException("You cannot book your own item");
@@ -19,6 +25,14 @@ public class BookingServiceUtils {
         if (!item.getAvailable()) {
             throw new ValidationException("Item is not available for booking");
         }
+
+        if (dto.bookingStartDate() == null || dto.bookingEndDate() == null) {
+            throw new ValidationException("Booking start and end dates are required");
+        }
+
+        if (!dto.bookingStartDate().isBefore(dto.bookingEndDate())) {
+            throw new ValidationException("Booking end must be after its start");
+        }
     }
 
     public static void validateCancellationRules(Booking booking, Long bookerId) {
@@ -42,6 +56,13 @@ public class BookingServiceUtils {
         }
     }
 
+    public static void validateDecisionRules(Booking booking) {
+        if (booking.getStatus() != BookingStatus.WAITING) {
+            throw new ValidationException(
+                    String.format("Booking %d has already been processed: %s", booking.getId(), booking.getStatus()));
+        }
+    }
+
     public static void checkOwnerAndRequestor(Booking booking, Long requesterId) {
         if (!booking.getItem().getOwner().getId().equals(requesterId)) {
             throw new BookingAccessDeniedException(requesterId, booking.getId());
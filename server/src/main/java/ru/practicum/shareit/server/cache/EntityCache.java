@@ -0,0 +1,57 @@
+package ru.practicum.shareit.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of entities by id, bounded by size and TTL. Caffeine evicts with W-TinyLFU.
+ * Cached instances are shared between requests, so callers use them as read-only references;
+ * writes go through the repository and evict the entry when their transaction completes.
+ * Misses are not cached, so an id created right after a failed lookup is found.
+ */
+public class EntityCache<T> implements MeterBinder {
+    private final String name;
+    private final Cache<Long, T> cache;
+    private final Function<Long, Optional<T>> loader;
+
+    public EntityCache(String name, String spec, Function<Long, Optional<T>> loader) {
+        this.name = name;
+        this.cache = Caffeine.from(spec).recordStats().build();
+        this.loader = loader;
+    }
+
+    public Optional<T> findById(Long id) {
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    public void evict(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidate(id);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+}
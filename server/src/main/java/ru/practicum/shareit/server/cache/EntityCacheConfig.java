@@ -0,0 +1,27 @@
+package ru.practicum.shareit.server.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+import ru.practicum.shareit.server.user.entity.User;
+import ru.practicum.shareit.server.user.repository.UserRepository;
+
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean
+    public EntityCache<User> userCache(UserRepository userRepository,
+                                       @Value("${shareit.cache.users:maximumSize=10000,expireAfterWrite=10m}")
+                                       String spec) {
+        return new EntityCache<>("users", spec, userRepository::findById);
+    }
+
+    @Bean
+    public EntityCache<Item> itemCache(ItemRepository itemRepository,
+                                       @Value("${shareit.cache.items:maximumSize=10000,expireAfterWrite=10m}")
+                                       String spec) {
+        return new EntityCache<>("items", spec, itemRepository::findWithOwnerById);
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded cache of per-item values that are loaded from the database and then kept current by changes applied
+ * after commit. Every entry carries a version that each change bumps; a change to an item that is not loaded
+ * leaves a marker entry without a value, so a load that read the rows before the change does not cache them.
+ * Markers live in the same Caffeine cache as the values, so nothing grows with the number of items ever written.
+ * A marker evicted while a load is in flight lets that load through, so specs should set an expiry to bound how
+ * long such a value is served.
+ */
+public class VersionedCache<V> implements MeterBinder {
+    private final String name;
+    private final Cache<Long, Entry<V>> cache;
+
+    public VersionedCache(String name, String spec) {
+        this.name = name;
+        this.cache = Caffeine.from(spec).recordStats().build();
+    }
+
+    /**
+     * Loaded values of the given items; items without one are left out.
+     */
+    public Map<Long, V> getAllPresent(Collection<Long> itemIds) {
+        Map<Long, V> result = new HashMap<>();
+        cache.getAllPresent(itemIds).forEach((itemId, entry) -> {
+            if (entry.value() != null) {
+                result.put(itemId, entry.value());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Version to pass to {@link #putIfUnchanged} for a load that is about to read the item's rows.
+     */
+    public long version(Long itemId) {
+        Entry<V> entry = cache.getIfPresent(itemId);
+        return entry == null ? 0 : entry.version();
+    }
+
+    /**
+     * Caches a loaded value unless the item changed since {@code loadedVersion} was read
+     * or another load got there first.
+     */
+    public void putIfUnchanged(Long itemId, long loadedVersion, V value) {
+        cache.asMap().compute(itemId, (id, existing) -> {
+            if (existing == null) {
+                return loadedVersion == 0 ? new Entry<>(0, value) : null;
+            }
+            if (existing.value() != null || existing.version() != loadedVersion) {
+                return existing;
+            }
+            return new Entry<>(loadedVersion, value);
+        });
+    }
+
+    /**
+     * Applies a change to the cached value once the surrounding transaction commits.
+     *
+     * @param change returns the new value, {@code null} drops the loaded value so the next read reloads it
+     */
+    public void updateAfterCommit(Long itemId, UnaryOperator<V> change) {
+        Runnable action = () -> cache.asMap().compute(itemId, (id, existing) -> {
+            long version = existing == null ? 1 : existing.version() + 1;
+            if (existing == null || existing.value() == null || change == null) {
+                return new Entry<>(version, null);
+            }
+            return new Entry<>(version, change.apply(existing.value()));
+        });
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    private record Entry<V>(long version, V value) {
+    }
+}
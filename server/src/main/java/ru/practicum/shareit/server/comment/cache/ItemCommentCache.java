@@ -0,0 +1,122 @@
+package ru.practicum.shareit.server.comment.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.server.cache.VersionedCache;
+import ru.practicum.shareit.server.comment.dto.CommentDto;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
+import ru.practicum.shareit.server.comment.mapper.CommentMapper;
+import ru.practicum.shareit.server.comment.model.Comment;
+import ru.practicum.shareit.server.comment.repository.CommentRepository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The most recent comments of each item, newest first, as immutable lists.
+ * Comments are append-only, so a new comment is prepended to a cached entry after commit
+ * instead of invalidating it. Entries hold at most {@code recent-limit} comments plus the total count.
+ */
+@Component
+public class ItemCommentCache implements MeterBinder {
+    private final CommentRepository commentRepository;
+    private final CommentMapper commentMapper;
+    private final int recentLimit;
+    private final VersionedCache<ItemCommentsDto> cache;
+
+    public ItemCommentCache(CommentRepository commentRepository,
+                            CommentMapper commentMapper,
+                            @Value("${shareit.comment.recent-limit:50}") int recentLimit,
+                            @Value("${shareit.cache.comments:maximumSize=10000,expireAfterWrite=30m}") String spec) {
+        this.commentRepository = commentRepository;
+        this.commentMapper = commentMapper;
+        this.recentLimit = recentLimit;
+        this.cache = new VersionedCache<>("comments", spec);
+    }
+
+    public ItemCommentsDto get(Long itemId) {
+        return getAll(List.of(itemId)).get(itemId);
+    }
+
+    /**
+     * Serves cached items from memory and loads the missing ones with a single query that reads
+     * no more than {@code recent-limit} rows per item; older comments are left to the paged endpoint.
+     */
+    public Map<Long, ItemCommentsDto> getAll(Collection<Long> itemIds) {
+        Map<Long, ItemCommentsDto> result = new HashMap<>(cache.getAllPresent(itemIds));
+
+        List<Long> missing = itemIds.stream()
+                .distinct()
+                .filter(itemId -> !result.containsKey(itemId))
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Long> loadedVersions = missing.stream()
+                .collect(Collectors.toMap(itemId -> itemId, cache::version));
+        Map<Long, List<Comment>> commentsByItem = new HashMap<>();
+        Map<Long, Long> totals = new HashMap<>();
+        for (Object[] row : commentRepository.findRecentByItemIds(missing, recentLimit)) {
+            Comment comment = (Comment) row[0];
+            Long itemId = comment.getItem().getId();
+            commentsByItem.computeIfAbsent(itemId, id -> new ArrayList<>()).add(comment);
+            totals.put(itemId, ((Number) row[1]).longValue());
+        }
+
+        for (Long itemId : missing) {
+            ItemCommentsDto loaded = toItemComments(
+                    commentsByItem.getOrDefault(itemId, List.of()), totals.getOrDefault(itemId, 0L));
+            // a comment committed while loading may be missing from the rows, such items stay uncached
+            cache.putIfUnchanged(itemId, loadedVersions.get(itemId), loaded);
+            result.put(itemId, loaded);
+        }
+        return result;
+    }
+
+    /**
+     * Write-through for a new comment, applied once the surrounding transaction commits.
+     */
+    public void append(CommentDto comment) {
+        cache.updateAfterCommit(comment.itemId(), cached -> prepend(cached, comment));
+    }
+
+    /**
+     * Drops the item's comments once the surrounding transaction commits, e.g. when the item is deleted.
+     */
+    public void evict(Long itemId) {
+        cache.updateAfterCommit(itemId, null);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+
+    private ItemCommentsDto prepend(ItemCommentsDto cached, CommentDto comment) {
+        if (cached.recent().stream().anyMatch(recent -> recent.id().equals(comment.id()))) {
+            return cached;
+        }
+
+        List<CommentDto> comments = new ArrayList<>(cached.recent().size() + 1);
+        comments.add(comment);
+        comments.addAll(cached.recent());
+        return new ItemCommentsDto(
+                List.copyOf(comments.subList(0, Math.min(comments.size(), recentLimit))),
+                cached.total() + 1);
+    }
+
+    private ItemCommentsDto toItemComments(List<Comment> comments, long total) {
+        if (comments.isEmpty()) {
+            return ItemCommentsDto.EMPTY;
+        }
+
+        List<CommentDto> recent = comments.stream()
+                .sorted(Comparator.comparing(Comment::getCreated).thenComparing(Comment::getId).reversed())
+                .map(commentMapper::toDto)
+                .toList();
+        return new ItemCommentsDto(recent, total);
+    }
+}
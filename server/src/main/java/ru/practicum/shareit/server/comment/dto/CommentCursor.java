@@ -0,0 +1,37 @@
+package ru.practicum.shareit.server.comment.dto;
+
+import ru.practicum.shareit.server.exception.common.InvalidParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last comment on a page in {@code (created DESC, id DESC)} order.
+ * Clients only see it as an opaque token.
+ */
+public record CommentCursor(LocalDateTime created, Long id) {
+    private static final char SEPARATOR = '_';
+
+    public static CommentCursor of(CommentDto comment) {
+        return new CommentCursor(comment.created(), comment.id());
+    }
+
+    public static CommentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new CommentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidParameterException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = created.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
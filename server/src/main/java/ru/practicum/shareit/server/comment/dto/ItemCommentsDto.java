@@ -0,0 +1,11 @@
+package ru.practicum.shareit.server.comment.dto;
+
+import java.util.List;
+
+/**
+ * @param recent newest comments of the item first, capped
+ * @param total  number of comments the item has
+ */
+public record ItemCommentsDto(List<CommentDto> recent, long total) {
+    public static final ItemCommentsDto EMPTY = new ItemCommentsDto(List.of(), 0);
+}
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "commentSeqGen")
+    @SequenceGenerator(name = "commentSeqGen", sequenceName = "comment_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.server.comment.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,15 +9,36 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.server.comment.model.Comment;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    /**
+     * Up to {@code limit} newest comments of every item with their authors, each paired with the item's
+     * total number of comments.
+     */
+    @Query("SELECT c, r.total FROM Comment c JOIN FETCH c.author " +
+            "JOIN (SELECT rc.id AS id, " +
+            "ROW_NUMBER() OVER (PARTITION BY rc.item.id ORDER BY rc.created DESC, rc.id DESC) AS position, " +
+            "COUNT(*) OVER (PARTITION BY rc.item.id) AS total " +
+            "FROM Comment rc WHERE rc.item.id IN :itemIds) r ON r.id = c.id " +
+            "WHERE r.position <= :limit")
+    List<Object[]> findRecentByItemIds(@Param("itemIds") Collection<Long> itemIds, @Param("limit") long limit);
+
     @EntityGraph(attributePaths = {"author"})
-    Collection<Comment> findByItemIdOrderByCreatedDesc(Long itemId);
+    @Query("SELECT c FROM Comment c WHERE c.item.id = :itemId ORDER BY c.created DESC, c.id DESC")
+    Slice<Comment> findFirstPageByItemId(@Param("itemId") Long itemId, Pageable pageable);
 
+    // created <= :created is implied by the OR, but only that bound limits the idx_comments_item_created scan
     @EntityGraph(attributePaths = {"author"})
-    @Query("SELECT c FROM Comment c WHERE c.item.id IN :itemIds ORDER BY c.created DESC")
-    List<Comment> findAllByItemIds(@Param("itemIds") Collection<Long> itemIds);
+    @Query("SELECT c FROM Comment c WHERE c.item.id = :itemId " +
+            "AND c.created <= :created " +
+            "AND (c.created < :created OR (c.created = :created AND c.id < :id)) " +
+            "ORDER BY c.created DESC, c.id DESC")
+    Slice<Comment> findPageByItemIdAfter(@Param("itemId") Long itemId,
+                                         @Param("created") LocalDateTime created,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
 }
@@ -1,12 +1,21 @@
 package ru.practicum.shareit.server.comment.service;
 
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.server.comment.dto.CommentCursor;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
 
 import java.util.List;
 import java.util.Map;
 
 public interface CommentService {
-    List<CommentDto> getCommentsForItem(Long itemId);
+    ItemCommentsDto getCommentsForItem(Long itemId);
 
-    Map<Long, List<CommentDto>> getCommentsForItems(List<Long> itemIds);
+    Map<Long, ItemCommentsDto> getCommentsForItems(List<Long> itemIds);
+
+    Slice<CommentDto> getItemComments(Long itemId, CommentCursor after, int size);
+
+    void commentAdded(CommentDto comment);
+
+    void itemDeleted(Long itemId);
 }
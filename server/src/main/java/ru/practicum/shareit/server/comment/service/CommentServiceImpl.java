@@ -1,36 +1,64 @@
 package ru.practicum.shareit.server.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.server.comment.cache.ItemCommentCache;
+import ru.practicum.shareit.server.comment.dto.CommentCursor;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
 import ru.practicum.shareit.server.comment.mapper.CommentMapper;
+import ru.practicum.shareit.server.comment.model.Comment;
 import ru.practicum.shareit.server.comment.repository.CommentRepository;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
+    private final ItemCommentCache itemCommentCache;
 
-    public List<CommentDto> getCommentsForItem(Long itemId) {
-        return commentRepository.findByItemIdOrderByCreatedDesc(itemId).stream()
-                .map(commentMapper::toDto)
-                .collect(Collectors.toList());
+    public ItemCommentsDto getCommentsForItem(Long itemId) {
+        return itemCommentCache.get(itemId);
     }
 
-    public Map<Long, List<CommentDto>> getCommentsForItems(List<Long> itemIds) {
+    public Map<Long, ItemCommentsDto> getCommentsForItems(List<Long> itemIds) {
         if (itemIds.isEmpty()) {
             return Map.of();
         }
 
-        return commentRepository.findAllByItemIds(itemIds).stream()
-                .collect(Collectors.groupingBy(
-                        comment -> comment.getItem().getId(),
-                        Collectors.mapping(commentMapper::toDto, Collectors.toList())
-                ));
+        Map<Long, ItemCommentsDto> commentsByItem = new HashMap<>();
+        itemCommentCache.getAll(itemIds).forEach((itemId, comments) -> {
+            if (comments.total() > 0) {
+                commentsByItem.put(itemId, comments);
+            }
+        });
+        return commentsByItem;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<CommentDto> getItemComments(Long itemId, CommentCursor after, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<Comment> comments = after == null
+                ? commentRepository.findFirstPageByItemId(itemId, pageable)
+                : commentRepository.findPageByItemIdAfter(itemId, after.created(), after.id(), pageable);
+
+        return comments.map(commentMapper::toDto);
+    }
+
+    public void commentAdded(CommentDto comment) {
+        itemCommentCache.append(comment);
+    }
+
+    public void itemDeleted(Long itemId) {
+        itemCommentCache.evict(itemId);
     }
 }
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.server.exception.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A request parameter the client got wrong, such as a cursor token it did not receive from us.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidParameterException extends RuntimeException {
+    public InvalidParameterException(String message) {
+        super(message);
+    }
+}
@@ -2,18 +2,22 @@ package ru.practicum.shareit.server.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.server.comment.dto.CommentCursor;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
 import ru.practicum.shareit.server.comment.dto.CommentRequestDto;
 import ru.practicum.shareit.server.item.dto.CreateItemDto;
+import ru.practicum.shareit.server.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.server.item.dto.ItemResponseDto;
 import ru.practicum.shareit.server.item.dto.ItemUpdateDto;
 import ru.practicum.shareit.server.item.service.ItemService;
 
 import java.util.Collection;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
@@ -23,6 +27,7 @@ import java.util.Collection;
 public class ItemController {
     private final ItemService itemService;
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
 
     @GetMapping("/{itemId}")
@@ -50,6 +55,17 @@ public class ItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * One chunk of a bulk import; the gateway parses and validates the uploaded file and sends it here in chunks.
+     */
+    @PostMapping("/import")
+    public ItemImportResultDto importItems(
+            @RequestHeader(value = ItemController.USER_ID_HEADER) Long ownerId,
+            @RequestBody List<CreateItemDto> itemRequestDtos) {
+        log.debug("POST /items/import - Importing {} items for user: {}", itemRequestDtos.size(), ownerId);
+        return itemService.importItems(itemRequestDtos, ownerId);
+    }
+
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<CommentDto> createItemComment(
             @RequestBody CommentRequestDto request,
@@ -61,12 +77,40 @@ public class ItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * An empty or missing cursor starts from the newest comment; the token for the next page is returned
+     * in the {@value NEXT_CURSOR_HEADER} header while older comments are available.
+     */
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<List<CommentDto>> getItemComments(
+            @PathVariable("itemId") Long itemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = ItemController.USER_ID_HEADER) Long userId) {
+        if (log.isDebugEnabled()) {
+            log.debug("GET /items/{}/comments?cursor={}&size={} by user {}", itemId, cursor, size, userId);
+        }
+
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+        Slice<CommentDto> comments = itemService.getItemComments(itemId, after, size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (comments.hasNext() && comments.hasContent()) {
+            response.header(NEXT_CURSOR_HEADER, CommentCursor.of(comments.getContent().getLast()).encode());
+        }
+        return response.body(comments.getContent());
+    }
+
     @GetMapping("/search")
     public Collection<ItemResponseDto> searchItemsByQuery(
             @RequestParam(required = false, defaultValue = "") String text,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "20") int size,
             @RequestHeader(value = ItemController.USER_ID_HEADER) Long ownerId) {
-        log.info("GET /items/search?text='{}' by user {}", text, ownerId);
-        return itemService.searchItems(text, ownerId);
+        if (log.isDebugEnabled()) {
+            log.debug("GET /items/search?text='{}'&from={}&size={} by user {}", text, from, size, ownerId);
+        }
+        return itemService.searchItems(text, ownerId, from, size);
     }
 
     @GetMapping
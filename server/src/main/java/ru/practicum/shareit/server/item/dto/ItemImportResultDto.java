@@ -0,0 +1,15 @@
+package ru.practicum.shareit.server.item.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one import chunk. Results follow the order of the chunk; an entry has either the id of the created
+ * item or the reason it was skipped.
+ */
+public record ItemImportResultDto(
+        int created,
+        int rejected,
+        List<Entry> results
+) {
+    public record Entry(int index, Long itemId, String error) {}
+}
@@ -14,6 +14,7 @@ public record ItemResponseDto(
         Boolean available,
         Long ownerId,
         Collection<CommentDto> comments,
+        Long commentCount,
         LocalDateTime lastBooking,
         LocalDateTime nextBooking,
         Long requestId) { }
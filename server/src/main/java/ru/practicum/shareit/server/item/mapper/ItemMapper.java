@@ -1,6 +1,8 @@
 package ru.practicum.shareit.server.item.mapper;
 
 import org.mapstruct.*;
+import ru.practicum.shareit.server.booking.index.ItemBookingProjection.BookingDates;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
 import ru.practicum.shareit.server.item.dto.CreateItemDto;
 import ru.practicum.shareit.server.item.dto.ItemResponseDto;
 import ru.practicum.shareit.server.item.dto.ItemUpdateDto;
@@ -15,6 +17,16 @@ public interface ItemMapper {
     @Mapping(source = "request.id", target = "requestId")
     ItemResponseDto toDto(Item entity);
 
+    @Mapping(source = "entity.id", target = "id")
+    @Mapping(source = "entity.owner.id", target = "ownerId")
+    @Mapping(source = "entity.request.id", target = "requestId")
+    // the cached list is immutable and can be shared instead of copied per item
+    @Mapping(target = "comments", expression = "java(comments != null ? comments.recent() : null)")
+    @Mapping(source = "comments.total", target = "commentCount")
+    @Mapping(source = "bookingDates.lastBookingEnd", target = "lastBooking")
+    @Mapping(source = "bookingDates.nextBookingStart", target = "nextBooking")
+    ItemResponseDto toDto(Item entity, ItemCommentsDto comments, BookingDates bookingDates);
+
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateItemFromDto(ItemUpdateDto dto, @MappingTarget Item entity);
 }
\ No newline at end of file
@@ -12,7 +12,8 @@ import ru.practicum.shareit.server.user.entity.User;
 public class Item {
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "itemSeqGen")
+    @SequenceGenerator(name = "itemSeqGen", sequenceName = "item_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, length = 100)
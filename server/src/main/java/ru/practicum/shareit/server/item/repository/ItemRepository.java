@@ -1,27 +1,29 @@
 package ru.practicum.shareit.server.item.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.server.item.model.Item;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item,Long> {
-    @Query("SELECT i FROM Item i " +
-            "WHERE i.available = true AND " +
-            "(LOWER(i.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-            " LOWER(i.description) LIKE LOWER(CONCAT('%', :query, '%')))")
-    Collection<Item> searchAvailableItems(@Param("query") String query);
+    @EntityGraph(attributePaths = "owner")
+    Optional<Item> findWithOwnerById(Long id);
 
-    @Query("SELECT i, " +
-            "(SELECT MAX(b.bookingEndDate) FROM Booking b " +
-            " WHERE b.item.id = i.id AND b.status = 'APPROVED' AND b.bookingEndDate < CURRENT_TIMESTAMP) as lastBooking, " +
-            "(SELECT MIN(b.bookingStartDate) FROM Booking b " +
-            " WHERE b.item.id = i.id AND b.status = 'APPROVED' AND b.bookingStartDate > CURRENT_TIMESTAMP) as nextBooking " +
-            "FROM Item i " +
-            "WHERE i.owner.id = :ownerId " +
-            "ORDER BY i.name")
-    Collection<Object[]> findItemsWithBookingsByOwnerId(@Param("ownerId") Long ownerId);
+    @Query(value = "SELECT i.id FROM items i " +
+            "WHERE i.available = true AND i.search_vector @@ to_tsquery('simple', :query) " +
+            "ORDER BY ts_rank(i.search_vector, to_tsquery('simple', :query)) DESC, i.id " +
+            "OFFSET :from LIMIT :size", nativeQuery = true)
+    List<Long> searchAvailableItemIds(@Param("query") String tsQuery,
+                                      @Param("from") int from,
+                                      @Param("size") int size);
+
+    List<Item> findAllByOwnerIdOrderByName(Long ownerId);
+
+    List<Item> findAllByRequestIdInOrderById(Collection<Long> requestIds);
 }
 
@@ -0,0 +1,187 @@
+package ru.practicum.shareit.server.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index of items: lower-cased token -> item id -> weight.
+ * Query terms match tokens by prefix, every term has to match, and items are ranked by the summed
+ * weight of the best matching token per term (name over description, exact token over prefix).
+ * Availability is kept next to the postings, so approving or cancelling a booking flips a flag instead of
+ * re-tokenizing the item, and unavailable matches are dropped before the page is cut.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.item.search.engine", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryItemSearchEngine implements ItemSearchEngine, SmartInitializingSingleton {
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int EXACT_MATCH_BOOST = 2;
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> tokensByItem = new HashMap<>();
+    private final Set<Long> availableItems = new HashSet<>();
+
+    /**
+     * Loads the index once every bean is created and before the web server starts accepting connections,
+     * so searches never see a partial index and no committed update can be overwritten by the snapshot.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void afterSingletonsInstantiated() {
+        List<Item> items = itemRepository.findAll();
+
+        items.forEach(item -> put(item.getId(), weights(item), Boolean.TRUE.equals(item.getAvailable())));
+
+        log.info("Item search index warmed up with {} items ({} available) and {} tokens",
+                items.size(), availableItems.size(), postings.size());
+    }
+
+    @Override
+    public List<Long> search(String query, int from, int size) {
+        List<String> terms = ItemSearchTokenizer.tokenize(query);
+        if (terms.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String term : terms) {
+                Map<Long, Integer> termScores = match(term);
+                scores = scores == null ? termScores : intersect(scores, termScores);
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .filter(entry -> availableItems.contains(entry.getKey()))
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .skip(Math.max(from, 0))
+                    .limit(size)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Re-indexes the item and its availability once the surrounding transaction commits.
+     */
+    @Override
+    public void index(Item item) {
+        Long itemId = item.getId();
+        Map<String, Integer> weights = weights(item);
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+
+        afterCommit(() -> put(itemId, weights, available));
+    }
+
+    @Override
+    public void remove(Long itemId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeTokens(itemId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private Map<Long, Integer> match(String term) {
+        Map<Long, Integer> termScores = new HashMap<>();
+
+        for (Map.Entry<String, Map<Long, Integer>> posting : postings.tailMap(term, true).entrySet()) {
+            String token = posting.getKey();
+            if (!token.startsWith(term)) {
+                break;
+            }
+
+            int boost = token.length() == term.length() ? EXACT_MATCH_BOOST : 1;
+            posting.getValue().forEach((itemId, weight) -> termScores.merge(itemId, weight * boost, Math::max));
+        }
+        return termScores;
+    }
+
+    private static Map<Long, Integer> intersect(Map<Long, Integer> scores, Map<Long, Integer> termScores) {
+        Map<Long, Integer> result = new HashMap<>();
+        scores.forEach((itemId, score) -> {
+            Integer termScore = termScores.get(itemId);
+            if (termScore != null) {
+                result.put(itemId, score + termScore);
+            }
+        });
+        return result;
+    }
+
+    private void put(Long itemId, Map<String, Integer> weights, boolean available) {
+        lock.writeLock().lock();
+        try {
+            removeTokens(itemId);
+            weights.forEach((token, weight) -> postings.computeIfAbsent(token, t -> new HashMap<>()).put(itemId, weight));
+            tokensByItem.put(itemId, weights.keySet());
+            if (available) {
+                availableItems.add(itemId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeTokens(Long itemId) {
+        availableItems.remove(itemId);
+        Set<String> tokens = tokensByItem.remove(itemId);
+        if (tokens == null) {
+            return;
+        }
+
+        for (String token : tokens) {
+            Map<Long, Integer> items = postings.get(token);
+            items.remove(itemId);
+            if (items.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static Map<String, Integer> weights(Item item) {
+        Map<String, Integer> weights = new HashMap<>();
+        ItemSearchTokenizer.tokenize(item.getName()).forEach(token -> weights.put(token, NAME_WEIGHT));
+        ItemSearchTokenizer.tokenize(item.getDescription())
+                .forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Math::max));
+        return weights;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
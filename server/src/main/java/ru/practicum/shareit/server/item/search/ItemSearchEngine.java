@@ -0,0 +1,21 @@
+package ru.practicum.shareit.server.item.search;
+
+import ru.practicum.shareit.server.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Full-text search over available items. Implementations return ranked item ids only,
+ * the caller hydrates them in one batch. Unavailable items are filtered out before {@code from} and
+ * {@code size} are applied, so a page is short only at the end of the results.
+ */
+public interface ItemSearchEngine {
+    List<Long> search(String query, int from, int size);
+
+    /**
+     * Re-indexes the item's text and availability; called whenever either changes.
+     */
+    void index(Item item);
+
+    void remove(Long itemId);
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.server.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Searches the generated {@code items.search_vector} column through its GIN index.
+ * The column is maintained by Postgres, so index and remove have nothing to do.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit.item.search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<Long> search(String query, int from, int size) {
+        List<String> terms = ItemSearchTokenizer.tokenize(query);
+        if (terms.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        String tsQuery = terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+
+        return itemRepository.searchAvailableItemIds(tsQuery, Math.max(from, 0), size);
+    }
+
+    @Override
+    public void index(Item item) {
+    }
+
+    @Override
+    public void remove(Long itemId) {
+    }
+}
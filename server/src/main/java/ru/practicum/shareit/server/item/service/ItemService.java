@@ -1,27 +1,36 @@
 package ru.practicum.shareit.server.item.service;
 
 
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.server.comment.dto.CommentCursor;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
 import ru.practicum.shareit.server.comment.dto.CommentRequestDto;
 import ru.practicum.shareit.server.item.dto.CreateItemDto;
+import ru.practicum.shareit.server.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.server.item.dto.ItemResponseDto;
 import ru.practicum.shareit.server.item.dto.ItemUpdateDto;
 import java.util.Collection;
+import java.util.List;
 
 public interface ItemService {
     ItemResponseDto getItemById(Long itemId,Long ownerId);
 
     ItemResponseDto createItem(CreateItemDto requestDto, Long ownerId);
 
+    /**
+     * Creates the valid entries of one chunk in a single transaction and reports the others.
+     */
+    ItemImportResultDto importItems(List<CreateItemDto> requestDtos, Long ownerId);
+
     ItemResponseDto updateItem(Long itemId, ItemUpdateDto dto, Long ownerId);
 
-    Collection<ItemResponseDto> searchItems(String query, Long ownerId);
+    Collection<ItemResponseDto> searchItems(String query, Long ownerId, int from, int size);
 
     Collection<ItemResponseDto> getUserItems(Long userId);
 
     void deleteItem(Long itemId);
 
-    Collection<CommentDto> getItemComments(Long itemId);
+    Slice<CommentDto> getItemComments(Long itemId, CommentCursor after, int size);
 
     CommentDto createItemComment(Long itemId, Long userId, CommentRequestDto text);
 }
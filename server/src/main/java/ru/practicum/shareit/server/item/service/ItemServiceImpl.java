@@ -3,17 +3,24 @@ package ru.practicum.shareit.server.item.service;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.index.ItemBookingProjection;
+import ru.practicum.shareit.server.booking.index.ItemBookingProjection.BookingDates;
 import ru.practicum.shareit.server.booking.model.Booking;
 import ru.practicum.shareit.server.booking.repository.BookingRepository;
+import ru.practicum.shareit.server.cache.EntityCache;
 import ru.practicum.shareit.server.comment.service.CommentService;
+import ru.practicum.shareit.server.comment.dto.CommentCursor;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
 import ru.practicum.shareit.server.comment.dto.CommentRequestDto;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
 import ru.practicum.shareit.server.comment.model.Comment;
 import ru.practicum.shareit.server.comment.repository.CommentRepository;
 import ru.practicum.shareit.server.item.dto.CreateItemDto;
+import ru.practicum.shareit.server.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.server.item.dto.ItemResponseDto;
 import ru.practicum.shareit.server.item.dto.ItemUpdateDto;
 import ru.practicum.shareit.server.item.exceptions.ItemAccessDeniedException;
@@ -22,71 +29,56 @@ import ru.practicum.shareit.server.item.exceptions.UserNotFoundException;
 import ru.practicum.shareit.server.item.mapper.ItemMapper;
 import ru.practicum.shareit.server.item.model.Item;
 import ru.practicum.shareit.server.item.repository.ItemRepository;
+import ru.practicum.shareit.server.item.search.ItemSearchEngine;
 import ru.practicum.shareit.server.request.exception.RequestNotFoundException;
 import ru.practicum.shareit.server.request.model.Request;
 import ru.practicum.shareit.server.request.repository.RequestRepository;
 import ru.practicum.shareit.server.user.entity.User;
-import ru.practicum.shareit.server.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ItemServiceImpl implements ItemService {
+    // items.name and items.description are VARCHAR(100), a longer value would fail the whole chunk on insert
+    private static final int MAX_TEXT_LENGTH = 100;
+
     private final ItemRepository itemRepository;
     private final ItemMapper itemMapper;
-    private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
     private final CommentService commentService;
     private final RequestRepository requestRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemBookingProjection itemBookingProjection;
+    private final EntityCache<User> userCache;
+    private final EntityCache<Item> itemCache;
 
 
     @Override
     @Transactional(readOnly = true)
     public ItemResponseDto getItemById(Long itemId,Long ownerId) {
-        Item item = itemRepository.findById(itemId)
+        Item item = itemCache.findById(itemId)
                 .orElseThrow(() -> new ItemNotFoundException("Item not found"));
 
-        List<CommentDto> comments = commentService.getCommentsForItem(itemId);
+        ItemCommentsDto comments = commentService.getCommentsForItem(itemId);
 
         boolean isOwner = item.getOwner() != null &&
                 item.getOwner().getId().equals(ownerId);
 
-        LocalDateTime lastBookingDate = null;
-        LocalDateTime nextBookingDate = null;
-
-        if (isOwner) {
-            LocalDateTime now = LocalDateTime.now();
-
-            lastBookingDate = bookingRepository
-                    .findLastBookingEndDate(itemId, BookingStatus.APPROVED, now)
-                    .orElse(null);
-
-            nextBookingDate = bookingRepository
-                    .findNextBookingStartDate(itemId, BookingStatus.APPROVED, now)
-                    .orElse(null);
-        }
+        BookingDates bookingDates = isOwner ? itemBookingProjection.get(itemId) : BookingDates.EMPTY;
 
-        return ItemResponseDto.builder()
-                .id(item.getId())
-                .name(item.getName())
-                .description(item.getDescription())
-                .available(item.getAvailable())
-                .ownerId(item.getOwner() != null ? item.getOwner().getId() : null)
-                .comments(comments)
-                .lastBooking(lastBookingDate)
-                .nextBooking(nextBookingDate)
-                .build();
+        return itemMapper.toDto(item, comments, bookingDates);
     }
 
     @Override
     @Transactional
     public ItemResponseDto createItem(CreateItemDto createItemDto, Long ownerId) {
-        User owner = userRepository.findById(ownerId)
+        User owner = userCache.findById(ownerId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
         Item item = this.itemMapper.toEntity(createItemDto);
@@ -102,10 +94,51 @@ public class ItemServiceImpl implements ItemService {
         }
 
         this.itemRepository.save(item);
+        this.itemSearchEngine.index(item);
 
         return this.itemMapper.toDto(item);
     }
 
+    @Override
+    @Transactional
+    public ItemImportResultDto importItems(List<CreateItemDto> createItemDtos, Long ownerId) {
+        User owner = userCache.findById(ownerId)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+
+        Set<Long> requestIds = createItemDtos.stream()
+                .map(CreateItemDto::requestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Request> requests = requestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(Request::getId, Function.identity()));
+
+        Item[] items = new Item[createItemDtos.size()];
+        String[] errors = new String[createItemDtos.size()];
+        for (int i = 0; i < createItemDtos.size(); i++) {
+            CreateItemDto dto = createItemDtos.get(i);
+            errors[i] = validateImportEntry(dto, requests);
+            if (errors[i] == null) {
+                Item item = itemMapper.toEntity(dto);
+                item.setOwner(owner);
+                item.setRequest(dto.requestId() != null ? requests.get(dto.requestId()) : null);
+                items[i] = item;
+            }
+        }
+
+        List<Item> accepted = Arrays.stream(items).filter(Objects::nonNull).toList();
+        itemRepository.saveAll(accepted);
+        accepted.forEach(itemSearchEngine::index);
+
+        List<ItemImportResultDto.Entry> results = new ArrayList<>(createItemDtos.size());
+        for (int i = 0; i < createItemDtos.size(); i++) {
+            results.add(new ItemImportResultDto.Entry(i, items[i] != null ? items[i].getId() : null, errors[i]));
+        }
+        int rejected = createItemDtos.size() - accepted.size();
+
+        log.info("Imported {} of {} items for user={}", accepted.size(), createItemDtos.size(), ownerId);
+        return new ItemImportResultDto(accepted.size(), rejected, results);
+    }
+
     @Transactional
     public ItemResponseDto updateItem(Long itemId, ItemUpdateDto dto, Long ownerId) {
         Item item = this.itemRepository.findById(itemId)
@@ -114,74 +147,66 @@ public class ItemServiceImpl implements ItemService {
         validateItemOwnership(item, ownerId);
 
         this.itemMapper.updateItemFromDto(dto, item);
+        this.itemSearchEngine.index(item);
+        this.itemCache.evict(itemId);
 
         return this.itemMapper.toDto(item);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ItemResponseDto> searchItems(String query, Long ownerId) {
-        log.debug("Searching items: query='{}', user={}", query, ownerId);
+    public List<ItemResponseDto> searchItems(String query, Long ownerId, int from, int size) {
+        log.debug("Searching items: query='{}', from={}, size={}, user={}", query, from, size, ownerId);
 
         if (query == null || query.trim().isEmpty()) {
             return List.of();
         }
 
-        Collection<Item> searchedItems = itemRepository.searchAvailableItems(query.toLowerCase());
+        List<Long> itemIds = itemSearchEngine.search(query, from, size);
 
-        if (searchedItems.isEmpty()) {
+        if (itemIds.isEmpty()) {
             return List.of();
         }
 
-        List<Long> itemIds = searchedItems.stream()
-                .map(Item::getId)
-                .collect(Collectors.toList());
+        Map<Long, Item> itemsById = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, item -> item));
 
-        Map<Long, List<CommentDto>> commentsByItemId = commentService.getCommentsForItems(itemIds);
+        List<Item> searchedItems = itemIds.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<Long, ItemCommentsDto> commentsByItemId = commentService.getCommentsForItems(itemIds);
 
         return searchedItems.stream()
-                .map(item -> {
-                    Long itemId = item.getId();
-                    ItemResponseDto baseDto = itemMapper.toDto(item);
-
-                    List<CommentDto> comments = commentsByItemId.getOrDefault(itemId, List.of());
-
-                    return ItemResponseDto.builder()
-                            .id(baseDto.id())
-                            .name(baseDto.name())
-                            .description(baseDto.description())
-                            .available(baseDto.available())
-                            .ownerId(baseDto.ownerId())
-                            .comments(comments)
-                            .lastBooking(null)
-                            .nextBooking(null)
-                            .build();
-                })
+                .map(item -> itemMapper.toDto(item,
+                        commentsByItemId.getOrDefault(item.getId(), ItemCommentsDto.EMPTY),
+                        BookingDates.EMPTY))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Collection<ItemResponseDto> getUserItems(Long userId) {
-        if (!userRepository.existsById(userId)) {
+        if (!userCache.existsById(userId)) {
             throw new UserNotFoundException("User not found");
         }
 
-        List<Object[]> results = itemRepository.findItemsWithBookingsByOwnerId(userId)
-                .stream().toList();
+        List<Item> items = itemRepository.findAllByOwnerIdOrderByName(userId);
 
-        if (results.isEmpty()) {
+        if (items.isEmpty()) {
             return List.of();
         }
 
-        List<Long> itemIds = results.stream()
-                .map(row -> ((Item) row[0]).getId())
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
                 .collect(Collectors.toList());
 
-        Map<Long, List<CommentDto>> commentsByItem = commentService.getCommentsForItems(itemIds);
+        Map<Long, ItemCommentsDto> commentsByItem = commentService.getCommentsForItems(itemIds);
+        Map<Long, BookingDates> bookingDatesByItem = itemBookingProjection.getAll(itemIds);
 
-        return results.stream()
-                .map(row -> convertToDto(row, commentsByItem))
+        return items.stream()
+                .map(item -> convertToDto(item, commentsByItem, bookingDatesByItem))
                 .collect(Collectors.toList());
     }
 
@@ -189,32 +214,29 @@ public class ItemServiceImpl implements ItemService {
     @Transactional
     public void deleteItem(Long itemId) {
         this.itemRepository.deleteById(itemId);
+        this.itemSearchEngine.remove(itemId);
+        this.itemBookingProjection.evict(itemId);
+        this.commentService.itemDeleted(itemId);
+        this.itemCache.evict(itemId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Collection<CommentDto> getItemComments(Long itemId) {
-        Collection<Comment> itemComments = this.commentRepository.findByItemIdOrderByCreatedDesc(itemId);
-
-        return itemComments.stream()
-                .map(comment -> CommentDto.builder()
-                        .id(comment.getId())
-                        .text(comment.getText())
-                        .created(comment.getCreated())
-                        .itemId(itemId)
-                        .authorId(comment.getAuthor().getId())
-                        .authorName(comment.getAuthor().getName())
-                        .build())
-                .collect(Collectors.toList());
+    public Slice<CommentDto> getItemComments(Long itemId, CommentCursor after, int size) {
+        if (!itemCache.existsById(itemId)) {
+            throw new ItemNotFoundException("Item not found");
+        }
+
+        return commentService.getItemComments(itemId, after, size);
     }
 
     @Override
     @Transactional
     public CommentDto createItemComment(Long itemId, Long userId, CommentRequestDto request) {
-        User author = userRepository.findById(userId)
+        User author = userCache.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        Item item = itemRepository.findById(itemId)
+        Item item = itemCache.findById(itemId)
                 .orElseThrow(() -> new ItemNotFoundException("Item not found"));
 
         validateUserCanComment(itemId, userId);
@@ -230,7 +252,7 @@ public class ItemServiceImpl implements ItemService {
 
         comment = commentRepository.save(comment);
 
-        return CommentDto.builder()
+        CommentDto commentDto = CommentDto.builder()
                 .id(comment.getId())
                 .text(comment.getText())
                 .created(comment.getCreated())
@@ -238,6 +260,25 @@ public class ItemServiceImpl implements ItemService {
                 .authorId(userId)
                 .authorName(author.getName())
                 .build();
+        commentService.commentAdded(commentDto);
+
+        return commentDto;
+    }
+
+    private static String validateImportEntry(CreateItemDto dto, Map<Long, Request> requests) {
+        if (dto.name() == null || dto.name().isBlank()) {
+            return "Item name cannot be empty";
+        }
+        if (dto.name().length() > MAX_TEXT_LENGTH) {
+            return "Item name must not be longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (dto.description() != null && dto.description().length() > MAX_TEXT_LENGTH) {
+            return "Item description must not be longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (dto.requestId() != null && !requests.containsKey(dto.requestId())) {
+            return "Request not found: " + dto.requestId();
+        }
+        return null;
     }
 
     private void validateItemOwnership(Item item, Long userId) {
@@ -288,23 +329,13 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
-    private ItemResponseDto convertToDto(Object[] row,
-                                         Map<Long, List<CommentDto>> commentsByItem) {
-        Item item = (Item) row[0];
-        LocalDateTime lastBooking = (LocalDateTime) row[1];
-        LocalDateTime nextBooking = (LocalDateTime) row[2];
+    private ItemResponseDto convertToDto(Item item,
+                                         Map<Long, ItemCommentsDto> commentsByItem,
+                                         Map<Long, BookingDates> bookingDatesByItem) {
         Long itemId = item.getId();
+        BookingDates bookingDates = bookingDatesByItem.getOrDefault(itemId, BookingDates.EMPTY);
+        ItemCommentsDto comments = commentsByItem.getOrDefault(itemId, ItemCommentsDto.EMPTY);
 
-        return ItemResponseDto.builder()
-                .id(itemId)
-                .name(item.getName())
-                .description(item.getDescription())
-                .available(item.getAvailable())
-                .ownerId(item.getOwner().getId())
-                .comments(commentsByItem.getOrDefault(itemId, List.of()))
-                .lastBooking(lastBooking)
-                .nextBooking(nextBooking)
-                .build();
+        return itemMapper.toDto(item, comments, bookingDates);
     }
 }
-
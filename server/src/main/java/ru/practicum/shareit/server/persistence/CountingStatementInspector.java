@@ -0,0 +1,16 @@
+package ru.practicum.shareit.server.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every JDBC statement Hibernate prepares in {@link QueryCounter}, whether statistics are on or not.
+ * Public with a no-arg constructor so that tests can register it by class name through
+ * {@code hibernate.session_factory.statement_inspector} without the rest of the metrics.
+ */
+public class CountingStatementInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.statementPrepared();
+        return sql;
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.server.persistence;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate's statistics, also counting query rows per thread in {@link QueryCounter} so that they can be
+ * attributed to the repository method and the HTTP request that read them. Hibernate only reports to it while
+ * {@code hibernate.generate_statistics} is on; statements are counted by {@link CountingStatementInspector}.
+ */
+class CountingStatistics extends StatisticsImpl {
+    CountingStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        QueryCounter.rowsReturned(rows);
+    }
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.server.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Query counts per repository method and per HTTP request, on top of Hibernate's own {@code hibernate.*} metrics
+ * and Spring Data's {@code spring.data.repository.invocations} timer. Statements are always counted; row counts
+ * come from Hibernate statistics, see {@code hibernate.generate_statistics}, and stay at zero with statistics off.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class PersistenceMetricsConfig {
+    @Bean
+    public HibernatePropertiesCustomizer queryCounting() {
+        StatisticsFactory factory = CountingStatistics::new;
+        return properties -> {
+            properties.put(JdbcSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+            properties.put(StatisticsSettings.STATS_BUILDER, factory);
+        };
+    }
+
+    @Bean
+    public static RepositoryQueryMetrics repositoryQueryMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryQueryMetrics(meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestStatementsFilter> requestStatementsFilter(
+            MeterRegistry meterRegistry,
+            QueryBudgetProperties budgets,
+            @Value("${shareit.persistence.request-statements-warn-threshold:20}") int warnThreshold) {
+        FilterRegistrationBean<RequestStatementsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatementsFilter(meterRegistry, budgets, warnThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.setName("requestStatementsFilter");
+        return registration;
+    }
+}
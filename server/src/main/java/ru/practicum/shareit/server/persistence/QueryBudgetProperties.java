@@ -0,0 +1,24 @@
+package ru.practicum.shareit.server.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Statement budgets per endpoint, keyed by method and URI pattern such as {@code GET /items/{itemId}}. When enabled,
+ * a request running more statements than its endpoint's budget is logged as a warning; endpoints without a budget
+ * fall back to {@code shareit.persistence.request-statements-warn-threshold}.
+ */
+@ConfigurationProperties("shareit.persistence.query-budgets")
+public record QueryBudgetProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue Map<String, Integer> endpoints) {
+
+    int budget(String method, String uri, int fallback) {
+        if (!enabled) {
+            return fallback;
+        }
+        return endpoints.getOrDefault(method + " " + uri, fallback);
+    }
+}
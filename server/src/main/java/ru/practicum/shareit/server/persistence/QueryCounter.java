@@ -0,0 +1,37 @@
+package ru.practicum.shareit.server.persistence;
+
+/**
+ * JDBC statements prepared and query rows returned on the current thread, fed by
+ * {@link CountingStatementInspector} and {@link CountingStatistics}. The counts only grow; callers take a
+ * {@link #snapshot()} before the work and subtract it afterwards.
+ */
+public final class QueryCounter {
+    private static final ThreadLocal<Counts> COUNTS = ThreadLocal.withInitial(Counts::new);
+
+    private QueryCounter() {
+    }
+
+    public static Snapshot snapshot() {
+        Counts counts = COUNTS.get();
+        return new Snapshot(counts.statements, counts.rows);
+    }
+
+    static void statementPrepared() {
+        COUNTS.get().statements++;
+    }
+
+    static void rowsReturned(long rows) {
+        COUNTS.get().rows += rows;
+    }
+
+    public record Snapshot(long statements, long rows) {
+        public Snapshot since(Snapshot earlier) {
+            return new Snapshot(statements - earlier.statements, rows - earlier.rows);
+        }
+    }
+
+    private static final class Counts {
+        private long statements;
+        private long rows;
+    }
+}
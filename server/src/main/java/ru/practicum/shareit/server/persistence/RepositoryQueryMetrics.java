@@ -0,0 +1,73 @@
+package ru.practicum.shareit.server.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the statements and query rows of every repository method as {@code shareit.repository.statements} and
+ * {@code shareit.repository.rows}, tagged like Spring Data's {@code spring.data.repository.invocations} timer
+ * with {@code repository} and {@code method}. Lazy loads triggered later on the returned entities are counted
+ * for the HTTP request, not for the method.
+ */
+class RepositoryQueryMetrics implements BeanPostProcessor {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    RepositoryQueryMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new Interceptor(
+                            repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private class Interceptor implements MethodInterceptor {
+        private final String repository;
+        private final Map<Method, Counter[]> counters = new ConcurrentHashMap<>();
+
+        Interceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            QueryCounter.Snapshot before = QueryCounter.snapshot();
+            try {
+                return invocation.proceed();
+            } finally {
+                QueryCounter.Snapshot used = QueryCounter.snapshot().since(before);
+                Counter[] methodCounters = counters.computeIfAbsent(invocation.getMethod(), this::register);
+                methodCounters[0].increment(used.statements());
+                methodCounters[1].increment(used.rows());
+            }
+        }
+
+        private Counter[] register(Method method) {
+            MeterRegistry registry = meterRegistry.getObject();
+            return new Counter[]{
+                    Counter.builder("shareit.repository.statements")
+                            .description("JDBC statements prepared by a repository method")
+                            .tags("repository", repository, "method", method.getName())
+                            .register(registry),
+                    Counter.builder("shareit.repository.rows")
+                            .description("Rows returned by the queries of a repository method")
+                            .tags("repository", repository, "method", method.getName())
+                            .register(registry)
+            };
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.server.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Statements executed per HTTP request, including lazy loads during serialization, as the
+ * {@code shareit.http.server.requests.statements} summary with {@code method} and {@code uri}. A request above
+ * its endpoint's budget, or the warning threshold without one, is logged, which is usually an N+1 query that came
+ * in with a change.
+ */
+@Slf4j
+class RequestStatementsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetProperties budgets;
+    private final int warnThreshold;
+
+    RequestStatementsFilter(MeterRegistry meterRegistry, QueryBudgetProperties budgets, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.budgets = budgets;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.Snapshot before = QueryCounter.snapshot();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryCounter.Snapshot used = QueryCounter.snapshot().since(before);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("shareit.http.server.requests.statements")
+                    .description("JDBC statements executed per HTTP request")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .record(used.statements());
+
+            int budget = budgets.budget(request.getMethod(), uri, warnThreshold);
+            if (used.statements() > budget) {
+                log.warn("{} {} executed {} statements returning {} rows, over its budget of {}", request.getMethod(),
+                        uri, used.statements(), used.rows(), budget);
+            }
+        }
+    }
+}
@@ -4,9 +4,12 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 import ru.practicum.shareit.server.item.mapper.ItemMapper;
+import ru.practicum.shareit.server.item.model.Item;
 import ru.practicum.shareit.server.request.dto.RequestDto;
 import ru.practicum.shareit.server.request.model.Request;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring",
         unmappedTargetPolicy = ReportingPolicy.IGNORE,
         uses = {ItemMapper.class})
@@ -15,4 +18,11 @@ public interface RequestMapper {
     @Mapping(source = "createdAt", target = "created")
     @Mapping(source = "items", target = "items")
     RequestDto toDto(Request request);
+
+    @Mapping(source = "request.id", target = "id")
+    @Mapping(source = "request.description", target = "description")
+    @Mapping(source = "request.requester.id", target = "requesterId")
+    @Mapping(source = "request.createdAt", target = "created")
+    @Mapping(source = "items", target = "items")
+    RequestDto toDto(Request request, List<Item> items);
 }
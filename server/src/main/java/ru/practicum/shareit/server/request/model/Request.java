@@ -19,7 +19,8 @@ import java.util.List;
 @AllArgsConstructor
 public class Request {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requestSeqGen")
+    @SequenceGenerator(name = "requestSeqGen", sequenceName = "request_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "description", nullable = false, length = 100)
@@ -12,14 +12,14 @@ import java.util.Optional;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, Long> {
-    @Query("SELECT DISTINCT r FROM Request r " +
-            "LEFT JOIN FETCH r.requester " +
-            "LEFT JOIN FETCH r.items i " +
-            "WHERE r.requester.id = :userId " +
-            "ORDER BY r.createdAt DESC")
+    /**
+     * Pages without fetching {@code items}: a collection fetch would make Hibernate load every request of the user
+     * and paginate in memory. Items of a page are loaded separately, see {@code ItemRepository#findAllByRequestIdInOrderById}.
+     */
+    @Query("SELECT r FROM Request r WHERE r.requester.id = :userId")
     Slice<Request> findUserOwnRequests(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT r FROM Request r LEFT JOIN FETCH r.requester WHERE r.requester.id <> :userId")
+    @Query("SELECT r FROM Request r WHERE r.requester.id <> :userId")
     Slice<Request> findRequestsToUser(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT DISTINCT r FROM Request r " +
@@ -5,17 +5,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.server.cache.EntityCache;
 import ru.practicum.shareit.server.item.exceptions.UserNotFoundException;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
 import ru.practicum.shareit.server.request.dto.RequestDto;
 import ru.practicum.shareit.server.request.exception.RequestNotFoundException;
 import ru.practicum.shareit.server.request.mapper.RequestMapper;
 import ru.practicum.shareit.server.request.model.Request;
 import ru.practicum.shareit.server.request.repository.RequestRepository;
 import ru.practicum.shareit.server.user.entity.User;
-import ru.practicum.shareit.server.user.repository.UserRepository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,32 +27,28 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RequestServiceImpl implements RequestService {
     private final RequestRepository requestRepository;
-    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final EntityCache<User> userCache;
     private final RequestMapper requestMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public List<RequestDto> findUserOwnRequests(Long requesterId, Pageable pageable) {
-        log.info("Looking for requests of user: {}", requesterId);
-
         Slice<Request> requestsSlice = requestRepository.findUserOwnRequests(requesterId, pageable);
+        log.debug("Found {} requests of user {}", requestsSlice.getNumberOfElements(), requesterId);
 
-        log.info("Found {} requests for user {}", requestsSlice.getNumberOfElements(), requesterId);
-        log.info("Total elements: {}", requestsSlice.getNumberOfElements());
-
-        return requestsSlice.getContent().stream()
-                .map(requestMapper::toDto)
-                .collect(Collectors.toList());
+        return toDtosWithItems(requestsSlice.getContent());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RequestDto> findOtherUsersRequests(Long requesterId, Pageable pageable) {
         Slice<Request> requestsSlice = requestRepository.findRequestsToUser(requesterId, pageable);
-        return requestsSlice.getContent().stream()
-                .map(requestMapper::toDto)
-                .collect(Collectors.toList());
+        return toDtosWithItems(requestsSlice.getContent());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public RequestDto findRequestById(Long requestId) {
         return requestRepository.findRequestById(requestId)
                 .map(requestMapper::toDto)
@@ -56,8 +56,9 @@ public class RequestServiceImpl implements RequestService {
     }
 
     @Override
+    @Transactional
     public RequestDto createRequest(Long userId, String description) {
-        User owner = userRepository.findById(userId)
+        User owner = userCache.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
         Request request = Request.builder()
@@ -70,4 +71,23 @@ public class RequestServiceImpl implements RequestService {
 
         return this.requestMapper.toDto(request);
     }
+
+    /**
+     * Items of the whole page come from one IN query, so a page costs two queries whatever its size.
+     */
+    private List<RequestDto> toDtosWithItems(List<Request> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> requestIds = requests.stream()
+                .map(Request::getId)
+                .toList();
+        Map<Long, List<Item>> itemsByRequest = itemRepository.findAllByRequestIdInOrderById(requestIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getRequest().getId()));
+
+        return requests.stream()
+                .map(request -> requestMapper.toDto(request, itemsByRequest.getOrDefault(request.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
 }
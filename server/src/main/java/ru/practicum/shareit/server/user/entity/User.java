@@ -14,7 +14,7 @@ public class User {
     @Id
     @EqualsAndHashCode.Include
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mySeqGen")
-    @SequenceGenerator(name = "mySeqGen", sequenceName = "id_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "mySeqGen", sequenceName = "id_sequence", allocationSize = 50)
     private Long id;
 
     @ToString.Include
@@ -2,6 +2,7 @@ package ru.practicum.shareit.server.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import ru.practicum.shareit.server.cache.EntityCache;
 import ru.practicum.shareit.server.item.dto.ItemResponseDto;
 import ru.practicum.shareit.server.item.service.ItemService;
 import ru.practicum.shareit.server.user.dto.UserCreateDto;
@@ -23,6 +24,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final ItemService itemService;
     private final UserMapper userMapper;
+    private final EntityCache<User> userCache;
 
     @Override
     public Collection<ItemResponseDto> getAllUserItems(Long userId) {
@@ -31,7 +33,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserResponseDto getUserById(Long userId) {
-        User user = this.userRepository.findById(userId)
+        User user = this.userCache.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
         return this.userMapper.toDto(user);
     }
@@ -64,12 +66,14 @@ public class UserServiceImpl implements UserService {
 
         this.userMapper.updateUserFromDto(userRequestDto, user);
         User savedUser = userRepository.save(user);
+        this.userCache.evict(userId);
         return this.userMapper.toDto(savedUser);
     }
 
     @Override
     public void deleteUser(Long userId) {
         this.userRepository.deleteById(userId);
+        this.userCache.evict(userId);
     }
 }
 
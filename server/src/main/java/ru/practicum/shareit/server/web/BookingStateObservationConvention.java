@@ -0,0 +1,35 @@
+package ru.practicum.shareit.server.web;
+
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import ru.practicum.shareit.server.booking.repository.BookingStateFilter;
+
+/**
+ * Spring's {@code http.server.requests} tags plus {@code state}, the booking listings' state parameter. Only known
+ * states become tag values, anything else is {@code invalid} and requests without one are {@code none}, so a client
+ * cannot create new series.
+ */
+class BookingStateObservationConvention extends DefaultServerRequestObservationConvention {
+    private static final String STATE = "state";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(STATE, state(context.getCarrier()));
+    }
+
+    private static String state(HttpServletRequest request) {
+        // only GET listings take a state; reading parameters of other requests could consume a form body
+        String state = "GET".equals(request.getMethod()) ? request.getParameter(STATE) : null;
+        if (state == null) {
+            return "none";
+        }
+        for (BookingStateFilter filter : BookingStateFilter.values()) {
+            if (filter.name().equalsIgnoreCase(state)) {
+                return filter.name();
+            }
+        }
+        return "invalid";
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.server.web;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ETags for reads the gateway caches. The tag is a hash of the response body, so a matching
+ * {@code If-None-Match} is answered with 304 and no body, which is what the gateway revalidates against.
+ * Only single-resource GETs are hashed, see {@link ResourceETagFilter}.
+ */
+@Configuration
+public class ETagConfig {
+    @Bean
+    public FilterRegistrationBean<ResourceETagFilter> shallowEtagHeaderFilter() {
+        FilterRegistrationBean<ResourceETagFilter> registration = new FilterRegistrationBean<>(new ResourceETagFilter());
+        registration.addUrlPatterns("/users/*", "/items/*", "/requests/*");
+        registration.setName("etagFilter");
+        return registration;
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.server.web;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * The request log runs first, so its duration covers every other filter. Turn it off with
+ * {@code logging.level.ru.practicum.shareit.server.web.RequestLogFilter=WARN}.
+ */
+@Configuration
+public class RequestLogConfig {
+    @Bean
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter() {
+        FilterRegistrationBean<RequestLogFilter> registration = new FilterRegistrationBean<>(new RequestLogFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setName("requestLogFilter");
+        return registration;
+    }
+}
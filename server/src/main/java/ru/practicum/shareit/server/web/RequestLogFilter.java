@@ -0,0 +1,51 @@
+package ru.practicum.shareit.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.server.persistence.QueryCounter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One INFO line per HTTP request, e.g.
+ * {@code method=GET uri=/items/{itemId} path=/items/5 status=200 duration_ms=3.104 user=1 statements=3 rows=2},
+ * so that controllers and services keep their own lines at DEBUG. {@code uri} is the matched pattern for grouping
+ * lines by endpoint; a request that ends in an exception is logged with status 500.
+ */
+@Slf4j
+class RequestLogFilter extends OncePerRequestFilter {
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!log.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        QueryCounter.Snapshot before = QueryCounter.snapshot();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            QueryCounter.Snapshot used = QueryCounter.snapshot().since(before);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            log.info("method={} uri={} path={} status={} duration_ms={} user={} statements={} rows={}",
+                    request.getMethod(), pattern != null ? pattern : "UNKNOWN", request.getRequestURI(),
+                    completed ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                    micros / 1000.0, request.getHeader(USER_ID_HEADER),
+                    used.statements(), used.rows());
+        }
+    }
+}
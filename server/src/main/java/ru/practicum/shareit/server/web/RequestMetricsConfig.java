@@ -0,0 +1,18 @@
+package ru.practicum.shareit.server.web;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Latency of every controller method as the {@code http.server.requests} timer, tagged with {@code method},
+ * {@code uri}, {@code status}, {@code outcome} and {@code state}. Percentiles are configured under
+ * {@code management.metrics.distribution} and read from {@code /actuator/metrics/http.server.requests.percentile}.
+ */
+@Configuration
+public class RequestMetricsConfig {
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new BookingStateObservationConvention();
+    }
+}
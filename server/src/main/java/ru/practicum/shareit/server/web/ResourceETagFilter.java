@@ -0,0 +1,22 @@
+package ru.practicum.shareit.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.regex.Pattern;
+
+/**
+ * Body-hash ETags for the single-resource reads the gateway revalidates: {@code GET /users/{id}},
+ * {@code /items/{id}} and {@code /requests/{id}}. Everything else passes through unbuffered, so listings,
+ * searches and imports are not copied into memory just to be hashed.
+ */
+public class ResourceETagFilter extends ShallowEtagHeaderFilter {
+    private static final Pattern RESOURCE_PATH = Pattern.compile("/(users|items|requests)/\\d+");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !RESOURCE_PATH.matcher(request.getRequestURI()).matches();
+    }
+}
@@ -0,0 +1,44 @@
+CREATE SEQUENCE IF NOT EXISTS id_sequence START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT       NOT NULL PRIMARY KEY,
+    name     VARCHAR(100) NOT NULL,
+    password VARCHAR(255),
+    email    VARCHAR(100) NOT NULL,
+    role     VARCHAR(255),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS requests (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    description  VARCHAR(100) NOT NULL,
+    requester_id BIGINT REFERENCES users (id),
+    created_at   TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS items (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(100),
+    available   BOOLEAN,
+    owner_id    BIGINT REFERENCES users (id),
+    request_id  BIGINT REFERENCES requests (id)
+);
+
+CREATE TABLE IF NOT EXISTS bookings (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_start_date TIMESTAMP(6) NOT NULL,
+    booking_end_date   TIMESTAMP(6) NOT NULL,
+    item_id            BIGINT REFERENCES items (id),
+    booker_id          BIGINT       NOT NULL REFERENCES users (id),
+    status             VARCHAR(255) NOT NULL,
+    created            TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    text      VARCHAR(255) NOT NULL,
+    item_id   BIGINT REFERENCES items (id),
+    author_id BIGINT       NOT NULL REFERENCES users (id),
+    created   TIMESTAMP(6)
+);
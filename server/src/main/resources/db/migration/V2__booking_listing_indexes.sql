@@ -0,0 +1,15 @@
+-- Booker listings: ALL/CURRENT/PAST/FUTURE scan by start date, WAITING/REJECTED by status first.
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start
+    ON bookings (booker_id, booking_start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_status_start
+    ON bookings (booker_id, status, booking_start_date DESC);
+
+-- Owner listings go through items.owner_id and then bookings per item.
+CREATE INDEX IF NOT EXISTS idx_items_owner
+    ON items (owner_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start
+    ON bookings (item_id, booking_start_date DESC, id DESC);
+
+-- Status lookups per item: owner WAITING/REJECTED listings and last/next approved booking.
+CREATE INDEX IF NOT EXISTS idx_bookings_item_status_end
+    ON bookings (item_id, status, booking_end_date);
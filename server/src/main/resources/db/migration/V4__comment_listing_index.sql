@@ -0,0 +1,3 @@
+-- Comment pages per item in (created DESC, id DESC) order, see GET /items/{id}/comments.
+CREATE INDEX IF NOT EXISTS idx_comments_item_created
+    ON comments (item_id, created DESC, id DESC);
@@ -0,0 +1,13 @@
+-- Ids come from sequences handed out in blocks of 50 (Hibernate pooled-lo optimizer), so inserts can be
+-- sent as JDBC batches. The increment must equal allocationSize of the entity's @SequenceGenerator.
+ALTER SEQUENCE id_sequence INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS request_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS booking_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comment_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE requests ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE bookings ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,9 @@
+-- Request pages: own requests per requester and everyone else's, both newest first, see GET /requests[/all].
+CREATE INDEX IF NOT EXISTS idx_requests_requester_created
+    ON requests (requester_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_requests_created
+    ON requests (created_at DESC);
+
+-- Items answering the requests of a page, loaded with one IN query.
+CREATE INDEX IF NOT EXISTS idx_items_request
+    ON items (request_id);
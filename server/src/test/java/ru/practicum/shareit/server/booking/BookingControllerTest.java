@@ -0,0 +1,60 @@
+package ru.practicum.shareit.server.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.server.booking.service.BookingService;
+import ru.practicum.shareit.server.exception.common.InvalidParameterException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BookingController.class)
+class BookingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BookingService bookingService;
+
+    @Test
+    void getUserBookings_WithGarbageCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingService, never()).scrollBookingsByBooker(anyLong(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    void getOwnerBookings_WithGarbageCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("cursor", "bm90LWEtZGF0ZV8x"))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingService, never()).scrollBookingsByOwner(anyLong(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    void getUserBookings_WithUnknownState_ShouldReturnBadRequest() throws Exception {
+        when(bookingService.getBookingsByBooker(1L, "SOMETIME", 0, 10))
+                .thenThrow(new InvalidParameterException("Unknown state: SOMETIME"));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "SOMETIME"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.server.booking.index;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.server.booking.dto.FreeSlotDto;
+import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.booking.repository.BookingRepository;
+import ru.practicum.shareit.server.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookingIntervalIndexTest {
+    private static final Long ITEM_ID = 1L;
+
+    private BookingRepository bookingRepository;
+    private BookingIntervalIndex index;
+    private LocalDateTime day;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = mock(BookingRepository.class);
+        index = new BookingIntervalIndex(bookingRepository);
+        day = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS);
+    }
+
+    @Test
+    void tryReserve_ShouldRejectBookingsThatDoNotEndAfterTheyStart() {
+        assertThatThrownBy(() -> index.tryReserve(booking(10L, day.plusDays(2), day.plusDays(1))))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> index.tryReserve(booking(11L, day, day)))
+                .isInstanceOf(ValidationException.class);
+
+        assertThat(index.tryReserve(booking(12L, day, day.plusDays(1)))).isTrue();
+    }
+
+    @Test
+    void hasOverlap_ShouldSeeLongWarmUpBookingUntilItIsReleased() {
+        Booking longBooking = booking(10L, day, day.plusDays(100));
+        Booking shortBooking = booking(11L, day.plusDays(1), day.plusDays(2));
+        when(bookingRepository.findAllByStatusInAndBookingEndDateAfter(anyCollection(), any()))
+                .thenReturn(List.of(longBooking, shortBooking));
+        index.afterSingletonsInstantiated();
+
+        assertThat(index.hasOverlap(ITEM_ID, day.plusDays(50), day.plusDays(51), null)).isTrue();
+
+        index.remove(longBooking);
+
+        assertThat(index.hasOverlap(ITEM_ID, day.plusDays(50), day.plusDays(51), null)).isFalse();
+        assertThat(index.hasOverlap(ITEM_ID, day.plusDays(1), day.plusDays(3), null)).isTrue();
+        assertThat(index.findFreeSlots(ITEM_ID, day, day.plusDays(3))).containsExactly(
+                new FreeSlotDto(day, day.plusDays(1)),
+                new FreeSlotDto(day.plusDays(2), day.plusDays(3)));
+    }
+
+    private static Booking booking(Long id, LocalDateTime start, LocalDateTime end) {
+        Item item = new Item();
+        item.setId(ITEM_ID);
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setItem(item);
+        booking.setBookingStartDate(start);
+        booking.setBookingEndDate(end);
+        return booking;
+    }
+}
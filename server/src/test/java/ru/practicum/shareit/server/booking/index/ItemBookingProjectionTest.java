@@ -0,0 +1,90 @@
+package ru.practicum.shareit.server.booking.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.server.booking.index.ItemBookingProjection.BookingDates;
+import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.booking.repository.BookingRepository;
+import ru.practicum.shareit.server.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class ItemBookingProjectionTest {
+    private static final Long ITEM_ID = 1L;
+
+    private BookingRepository bookingRepository;
+    private ItemBookingProjection projection;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = mock(BookingRepository.class);
+        projection = new ItemBookingProjection(bookingRepository, "maximumSize=100");
+        now = LocalDateTime.now();
+
+        when(bookingRepository.findLastBookingEndDates(anyCollection(), any(), any())).thenReturn(List.of());
+        when(bookingRepository.findAllByItemIdInAndStatusAndBookingEndDateGreaterThanEqual(
+                anyCollection(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void get_ShouldLoadItemOnceAndServeLaterReadsFromMemory() {
+        projection.get(ITEM_ID);
+        projection.getAll(List.of(ITEM_ID));
+
+        verify(bookingRepository, times(1)).findLastBookingEndDates(anyCollection(), any(), any());
+    }
+
+    @Test
+    void approved_ShouldUpdateLoadedItemAndRollFinishedBookingsIntoLast() {
+        projection.get(ITEM_ID);
+        Booking finished = booking(10L, now.minusHours(3), now.minusHours(2));
+        Booking upcoming = booking(11L, now.plusDays(1), now.plusDays(2));
+        Booking later = booking(12L, now.plusDays(3), now.plusDays(4));
+
+        projection.approved(finished);
+        projection.approved(later);
+        projection.approved(upcoming);
+
+        assertThat(projection.get(ITEM_ID))
+                .isEqualTo(new BookingDates(finished.getBookingEndDate(), upcoming.getBookingStartDate()));
+    }
+
+    @Test
+    void withdrawn_ShouldMoveNextToFollowingBooking() {
+        projection.get(ITEM_ID);
+        Booking upcoming = booking(11L, now.plusDays(1), now.plusDays(2));
+        Booking later = booking(12L, now.plusDays(3), now.plusDays(4));
+        projection.approved(upcoming);
+        projection.approved(later);
+
+        projection.withdrawn(upcoming);
+
+        assertThat(projection.get(ITEM_ID)).isEqualTo(new BookingDates(null, later.getBookingStartDate()));
+    }
+
+    @Test
+    void approved_ShouldNotCacheItemsThatWereNeverRead() {
+        projection.approved(booking(11L, now.plusDays(1), now.plusDays(2)));
+
+        verifyNoInteractions(bookingRepository);
+    }
+
+    private static Booking booking(Long id, LocalDateTime start, LocalDateTime end) {
+        Item item = new Item();
+        item.setId(ITEM_ID);
+
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setItem(item);
+        booking.setBookingStartDate(start);
+        booking.setBookingEndDate(end);
+        return booking;
+    }
+}
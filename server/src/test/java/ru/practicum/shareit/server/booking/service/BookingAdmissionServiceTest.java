@@ -0,0 +1,110 @@
+package ru.practicum.shareit.server.booking.service;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+import ru.practicum.shareit.server.user.entity.User;
+import ru.practicum.shareit.server.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookingAdmissionServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User booker;
+    private Item item;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        User owner = saveUser("owner-" + suffix);
+        booker = saveUser("booker-" + suffix);
+
+        item = new Item();
+        item.setName("Drill");
+        item.setDescription("Drill in good condition");
+        item.setAvailable(true);
+        item.setOwner(owner);
+        item = itemRepository.save(item);
+
+        start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void createBooking_WithoutItemId_ShouldThrowValidationException() {
+        BookingCreateDto dto = new BookingCreateDto(null, start, start.plusDays(1));
+
+        assertThatThrownBy(() -> bookingService.createBooking(dto, booker.getId()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Booking item id is required");
+    }
+
+    @Test
+    void createBookings_WithoutItemId_ShouldRejectOnlyThatEntry() throws Exception {
+        String body = "[\n"
+                + "  {\"start\": \"" + start + "\", \"end\": \"" + start.plusDays(1) + "\"},\n"
+                + "  {\"itemId\": " + item.getId() + ", \"start\": \"" + start.plusDays(2)
+                + "\", \"end\": \"" + start.plusDays(3) + "\"}\n"
+                + "]";
+
+        mockMvc.perform(post("/bookings/batch")
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .param("mode", "BEST_EFFORT")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].error").value("Booking item id is required"))
+                .andExpect(jsonPath("$.results[1].booking.id").isNumber());
+    }
+
+    @Test
+    void createBookings_WhenOnlyEntryHasNoItemId_ShouldReturnUnprocessableEntity() throws Exception {
+        String body = "[\n"
+                + "  {\"start\": \"" + start + "\", \"end\": \"" + start.plusDays(1) + "\"}\n"
+                + "]";
+
+        mockMvc.perform(post("/bookings/batch")
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.results[0].error").value("Booking item id is required"));
+    }
+
+    private User saveUser(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@admission.test");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,182 @@
+package ru.practicum.shareit.server.booking.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.exception.BookingOverlapException;
+import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.booking.repository.BookingRepository;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+import ru.practicum.shareit.server.user.entity.User;
+import ru.practicum.shareit.server.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingAdmissionStressTest {
+    private static final int THREADS = 32;
+    private static final int BOOKERS = 20;
+    private static final int BOOKING_ATTEMPTS = 2000;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private List<User> bookers;
+    private Item hotItem;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("owner");
+        bookers = new ArrayList<>();
+        for (int i = 0; i < BOOKERS; i++) {
+            bookers.add(saveUser("booker" + i));
+        }
+
+        hotItem = new Item();
+        hotItem.setName("Hot item");
+        hotItem.setDescription("Everybody wants it");
+        hotItem.setAvailable(true);
+        hotItem.setOwner(owner);
+        hotItem = itemRepository.save(hotItem);
+
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentBookingsAndApprovals_OnHotItem_ShouldNeverDoubleApprove() throws Exception {
+        LocalDateTime base = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.HOURS);
+        Random random = new Random(42);
+        Queue<BookingResponseDto> created = new ConcurrentLinkedQueue<>();
+        AtomicInteger overlapsRejected = new AtomicInteger();
+
+        List<Callable<Void>> bookingTasks = new ArrayList<>();
+        for (int i = 0; i < BOOKING_ATTEMPTS; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(BOOKING_ATTEMPTS / 2));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(3));
+            Long bookerId = bookers.get(i % BOOKERS).getId();
+            bookingTasks.add(() -> {
+                try {
+                    created.add(bookingService.createBooking(
+                            new BookingCreateDto(hotItem.getId(), start, end), bookerId));
+                } catch (BookingOverlapException e) {
+                    overlapsRejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        runConcurrently(bookingTasks);
+
+        assertThat(created).isNotEmpty();
+        assertThat(created.size() + overlapsRejected.get()).isEqualTo(BOOKING_ATTEMPTS);
+        assertNoOverlaps(created.stream()
+                .map(dto -> new long[]{toMinutes(dto.bookingStartDate()), toMinutes(dto.bookingEndDate())})
+                .toList());
+
+        AtomicInteger approvals = new AtomicInteger();
+        List<Callable<Void>> approvalTasks = new ArrayList<>();
+        for (BookingResponseDto booking : created) {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                approvalTasks.add(() -> {
+                    try {
+                        bookingService.manageBooking(owner.getId(), booking.id(), true);
+                        approvals.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        assertThat(e).hasMessageContaining("already been processed");
+                    }
+                    return null;
+                });
+            }
+        }
+        runConcurrently(approvalTasks);
+
+        List<Booking> approved = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.APPROVED)
+                .toList();
+
+        assertThat(approvals.get()).isEqualTo(created.size());
+        assertThat(approved).hasSize(created.size());
+        assertNoOverlaps(approved.stream()
+                .map(b -> new long[]{toMinutes(b.getBookingStartDate()), toMinutes(b.getBookingEndDate())})
+                .toList());
+    }
+
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                return task.call();
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<Void> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+    }
+
+    private static void assertNoOverlaps(List<long[]> intervals) {
+        List<long[]> sorted = intervals.stream()
+                .sorted(Comparator.comparingLong(interval -> interval[0]))
+                .toList();
+
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(sorted.get(i)[0])
+                    .as("booking starting at %d overlaps previous one", sorted.get(i)[0])
+                    .isGreaterThanOrEqualTo(sorted.get(i - 1)[1]);
+        }
+    }
+
+    private static long toMinutes(LocalDateTime dateTime) {
+        return ChronoUnit.MINUTES.between(LocalDateTime.of(2000, 1, 1, 0, 0), dateTime);
+    }
+
+    private User saveUser(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@stress.test");
+        return userRepository.save(user);
+    }
+}
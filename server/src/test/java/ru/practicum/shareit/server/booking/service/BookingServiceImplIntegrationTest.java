@@ -7,21 +7,37 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import ru.practicum.shareit.server.AllMappersTestConfig;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.server.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.dto.BookingCursor;
 import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.dto.FreeSlotDto;
+import ru.practicum.shareit.server.booking.enums.BookingBatchMode;
 import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.exception.BookingOverlapException;
+import ru.practicum.shareit.server.booking.index.BookingIntervalIndex;
+import ru.practicum.shareit.server.booking.index.ItemBookingProjection;
 import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.cache.EntityCacheConfig;
+import ru.practicum.shareit.server.exception.common.InvalidParameterException;
 import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.search.InMemoryItemSearchEngine;
 import ru.practicum.shareit.server.user.entity.User;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static ru.practicum.shareit.server.persistence.QueryBudget.assertStatements;
 
 @DataJpaTest
-@Import({BookingServiceImpl.class, AllMappersTestConfig.class})
+@Import({BookingServiceImpl.class, BookingIntervalIndex.class, ItemBookingProjection.class,
+        InMemoryItemSearchEngine.class, EntityCacheConfig.class, AllMappersTestConfig.class})
 class BookingServiceImplIntegrationTest {
 
     @Autowired
@@ -113,6 +129,32 @@ class BookingServiceImplIntegrationTest {
         assertThat(page1Ids).doesNotContainAnyElementsOf(page2Ids);
     }
 
+    @Test
+    void scrollBookingsByBooker_ShouldWalkAllPagesWithoutGapsOrDuplicates() {
+        for (int i = 1; i <= 12; i++) {
+            createBooking(now.plusDays(i), now.plusDays(i + 1), BookingStatus.APPROVED);
+        }
+        createBooking(now.plusDays(5), now.plusDays(6), BookingStatus.WAITING);
+
+        Slice<BookingResponseDto> page1 = bookingService.scrollBookingsByBooker(booker.getId(), "ALL", null, 5);
+        BookingCursor cursor1 = BookingCursor.decode(BookingCursor.of(page1.getContent().getLast()).encode());
+        Slice<BookingResponseDto> page2 = bookingService.scrollBookingsByBooker(booker.getId(), "ALL", cursor1, 5);
+        BookingCursor cursor2 = BookingCursor.of(page2.getContent().getLast());
+        Slice<BookingResponseDto> page3 = bookingService.scrollBookingsByBooker(booker.getId(), "ALL", cursor2, 5);
+
+        assertThat(page1.hasNext()).isTrue();
+        assertThat(page2.hasNext()).isTrue();
+        assertThat(page3.hasNext()).isFalse();
+        assertThat(page3.getContent()).hasSize(3);
+
+        List<BookingResponseDto> all = new ArrayList<>(page1.getContent());
+        all.addAll(page2.getContent());
+        all.addAll(page3.getContent());
+        assertThat(all).extracting(BookingResponseDto::id).doesNotHaveDuplicates().hasSize(13);
+        assertThat(all).extracting(BookingResponseDto::bookingStartDate)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
     @Test
     void getBookingsByBooker_WhenUserHasNoBookings_ShouldReturnEmptyList() {
         User otherUser = new User();
@@ -214,12 +256,192 @@ class BookingServiceImplIntegrationTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void bookingListings_WithUnknownState_ShouldRejectItAsInvalidParameter() {
+        assertThatThrownBy(() -> bookingService.getBookingsByBooker(booker.getId(), "SOMETIME", 0, 10))
+                .isInstanceOf(InvalidParameterException.class)
+                .hasMessage("Unknown state: SOMETIME");
+        assertThatThrownBy(() -> bookingService.scrollBookingsByOwner(owner.getId(), "SOMETIME", null, 10))
+                .isInstanceOf(InvalidParameterException.class);
+    }
+
     @Test
     void getBookingsByOwner_WithInvalidUserId_ShouldThrowException() {
         assertThatThrownBy(() -> bookingService.getBookingsByOwner(999L, "ALL", 0, 10))
                 .isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    void createBooking_WhenPeriodOverlapsExistingBooking_ShouldThrowException() {
+        bookingService.createBooking(
+                new BookingCreateDto(item.getId(), now.plusDays(1), now.plusDays(3)), booker.getId());
+
+        assertThatThrownBy(() -> bookingService.createBooking(
+                new BookingCreateDto(item.getId(), now.plusDays(2), now.plusDays(4)), booker.getId()))
+                .isInstanceOf(BookingOverlapException.class);
+    }
+
+    @Test
+    void createBooking_WhenPeriodIsAdjacent_ShouldSucceed() {
+        bookingService.createBooking(
+                new BookingCreateDto(item.getId(), now.plusDays(2), now.plusDays(3)), booker.getId());
+        BookingResponseDto adjacent = bookingService.createBooking(
+                new BookingCreateDto(item.getId(), now.plusDays(3), now.plusDays(4)), booker.getId());
+
+        assertThat(adjacent.status()).isEqualTo(BookingStatus.WAITING);
+        assertThat(bookingService.getFreeSlots(item.getId(), now.plusDays(2), now.plusDays(5)))
+                .containsExactly(new FreeSlotDto(now.plusDays(4), now.plusDays(5)));
+    }
+
+    @Test
+    void createBookings_WhenAllEntriesValid_ShouldCreateAll() {
+        Item second = createItem("Second Item");
+
+        BookingBatchResultDto result = bookingService.createBookings(List.of(
+                new BookingCreateDto(item.getId(), now.plusDays(1), now.plusDays(2)),
+                new BookingCreateDto(second.getId(), now.plusDays(1), now.plusDays(2)),
+                new BookingCreateDto(item.getId(), now.plusDays(2), now.plusDays(3))),
+                booker.getId(), BookingBatchMode.ALL_OR_NOTHING);
+
+        assertThat(result.created()).isEqualTo(3);
+        assertThat(result.rejected()).isZero();
+        assertThat(result.results())
+                .extracting(BookingBatchResultDto.Entry::booking)
+                .allSatisfy(booking -> assertThat(booking.status()).isEqualTo(BookingStatus.WAITING));
+        assertThat(bookingService.getBookingsByBooker(booker.getId(), "ALL", 0, 10)).hasSize(3);
+        assertThat(bookingService.getFreeSlots(item.getId(), now.plusDays(1), now.plusDays(3))).isEmpty();
+    }
+
+    @Test
+    void createBookings_AllOrNothing_WhenAnyEntryInvalid_ShouldCreateNothing() {
+        BookingBatchResultDto result = bookingService.createBookings(List.of(
+                new BookingCreateDto(item.getId(), now.plusDays(1), now.plusDays(2)),
+                new BookingCreateDto(999L, now.plusDays(1), now.plusDays(2))),
+                booker.getId(), BookingBatchMode.ALL_OR_NOTHING);
+
+        assertThat(result.created()).isZero();
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(result.results().get(0).booking()).isNull();
+        assertThat(result.results().get(0).error()).isNull();
+        assertThat(result.results().get(1).error()).contains("999");
+        assertThat(bookingService.getBookingsByBooker(booker.getId(), "ALL", 0, 10)).isEmpty();
+        assertThat(bookingService.getFreeSlots(item.getId(), now.plusDays(1), now.plusDays(2)))
+                .containsExactly(new FreeSlotDto(now.plusDays(1), now.plusDays(2)));
+    }
+
+    @Test
+    void createBookings_BestEffort_ShouldCreateValidEntriesAndReportOthers() {
+        bookingService.createBooking(
+                new BookingCreateDto(item.getId(), now.plusDays(1), now.plusDays(3)), booker.getId());
+        Item ownItem = createItem("Own Item");
+        ownItem.setOwner(booker);
+
+        BookingBatchResultDto result = bookingService.createBookings(List.of(
+                new BookingCreateDto(item.getId(), now.plusDays(2), now.plusDays(4)),
+                new BookingCreateDto(item.getId(), now.plusDays(5), now.plusDays(7)),
+                new BookingCreateDto(item.getId(), now.plusDays(6), now.plusDays(8)),
+                new BookingCreateDto(ownItem.getId(), now.plusDays(1), now.plusDays(2))),
+                booker.getId(), BookingBatchMode.BEST_EFFORT);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.results().get(0).error()).contains("already booked");
+        assertThat(result.results().get(1).booking()).isNotNull();
+        assertThat(result.results().get(2).error()).contains("already booked");
+        assertThat(result.results().get(3).error()).isEqualTo("You cannot book your own item");
+        assertThat(bookingService.getBookingsByBooker(booker.getId(), "ALL", 0, 10)).hasSize(2);
+    }
+
+    @Test
+    void createBookings_ShouldRejectEntriesWithMissingOrInvertedDatesPerItem() {
+        List<BookingCreateDto> entries = List.of(
+                new BookingCreateDto(item.getId(), null, now.plusDays(2)),
+                new BookingCreateDto(item.getId(), now.plusDays(3), null),
+                new BookingCreateDto(item.getId(), now.plusDays(5), now.plusDays(4)),
+                new BookingCreateDto(item.getId(), now.plusDays(6), now.plusDays(7)));
+
+        BookingBatchResultDto allOrNothing = bookingService.createBookings(
+                entries, booker.getId(), BookingBatchMode.ALL_OR_NOTHING);
+        BookingBatchResultDto bestEffort = bookingService.createBookings(
+                entries, booker.getId(), BookingBatchMode.BEST_EFFORT);
+
+        assertThat(allOrNothing.created()).isZero();
+        assertThat(allOrNothing.rejected()).isEqualTo(3);
+        assertThat(bestEffort.created()).isEqualTo(1);
+        assertThat(bestEffort.results()).extracting(BookingBatchResultDto.Entry::error).containsExactly(
+                "Booking start and end dates are required",
+                "Booking start and end dates are required",
+                "Booking end must be after its start",
+                null);
+    }
+
+    @Test
+    void getFreeSlots_ShouldReturnGapsBetweenBookings() {
+        bookingService.createBooking(
+                new BookingCreateDto(item.getId(), now.plusDays(2), now.plusDays(3)), booker.getId());
+        bookingService.createBooking(
+                new BookingCreateDto(item.getId(), now.plusDays(5), now.plusDays(6)), booker.getId());
+
+        List<FreeSlotDto> slots = bookingService.getFreeSlots(item.getId(), now.plusDays(1), now.plusDays(7));
+
+        assertThat(slots).containsExactly(
+                new FreeSlotDto(now.plusDays(1), now.plusDays(2)),
+                new FreeSlotDto(now.plusDays(3), now.plusDays(5)),
+                new FreeSlotDto(now.plusDays(6), now.plusDays(7)));
+    }
+
+    @Test
+    void bookingListings_ShouldFetchItemsAndBookersWithThePage() {
+        for (int i = 0; i < 3; i++) {
+            Item other = createItem("Item " + i);
+            createBookingForItem(other, now.plusDays(i + 1), now.plusDays(i + 2), BookingStatus.WAITING);
+        }
+        createBooking(now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED);
+        entityManager.clear();
+
+        // the user check and the page, whose items, owners and bookers must not be loaded one by one
+        List<BookingResponseDto> byBooker = assertStatements(2,
+                () -> bookingService.getBookingsByBooker(booker.getId(), "ALL", 0, 10));
+        List<BookingResponseDto> byOwner = assertStatements(2,
+                () -> bookingService.getBookingsByOwner(owner.getId(), "ALL", 0, 10));
+        // the owner is cached by now
+        Slice<BookingResponseDto> scrolled = assertStatements(1,
+                () -> bookingService.scrollBookingsByOwner(owner.getId(), "ALL", null, 2));
+
+        assertThat(byBooker).hasSize(4);
+        assertThat(byOwner).hasSize(4);
+        assertThat(scrolled.getContent()).hasSize(2);
+    }
+
+    @Test
+    void getBooking_ShouldLoadBookingWithItsItemAndBookerInOneStatement() {
+        Booking waiting = new Booking();
+        waiting.setItem(item);
+        waiting.setBooker(booker);
+        waiting.setBookingStartDate(now.plusDays(1));
+        waiting.setBookingEndDate(now.plusDays(2));
+        waiting.setStatus(BookingStatus.WAITING);
+        waiting.setCreated(now);
+        Long bookingId = entityManager.persistFlushFind(waiting).getId();
+        entityManager.clear();
+
+        BookingResponseDto booking = assertStatements(1,
+                () -> bookingService.getBooking(owner.getId(), bookingId));
+
+        assertThat(booking.item().id()).isEqualTo(item.getId());
+    }
+
+    private Item createItem(String name) {
+        Item other = new Item();
+        other.setName(name);
+        other.setDescription("Test Description");
+        other.setAvailable(true);
+        other.setOwner(owner);
+        entityManager.persist(other);
+        entityManager.flush();
+        return other;
+    }
+
     private void createBooking(LocalDateTime start, LocalDateTime end, BookingStatus status) {
         Booking booking = new Booking();
         booking.setItem(item);
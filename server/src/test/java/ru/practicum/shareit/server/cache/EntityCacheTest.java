@@ -0,0 +1,67 @@
+package ru.practicum.shareit.server.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityCacheTest {
+    private final Map<Long, String> rows = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private EntityCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EntityCache<>("names", "maximumSize=100", id -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(rows.get(id));
+        });
+        rows.put(1L, "first");
+    }
+
+    @Test
+    void findById_ShouldLoadOnceAndServeHitsFromMemory() {
+        assertThat(cache.findById(1L)).contains("first");
+        assertThat(cache.existsById(1L)).isTrue();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void findById_ShouldNotCacheMisses() {
+        assertThat(cache.existsById(2L)).isFalse();
+        rows.put(2L, "second");
+
+        assertThat(cache.findById(2L)).contains("second");
+    }
+
+    @Test
+    void evict_ShouldReloadOnNextLookup() {
+        cache.findById(1L);
+        rows.put(1L, "renamed");
+
+        cache.evict(1L);
+
+        assertThat(cache.findById(1L)).contains("renamed");
+    }
+
+    @Test
+    void bindTo_ShouldExposeHitAndMissCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.findById(1L);
+        cache.findById(1L);
+
+        assertThat(registry.get("cache.gets").tag("cache", "names").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "names").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+}
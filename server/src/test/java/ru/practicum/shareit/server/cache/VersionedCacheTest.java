@@ -0,0 +1,51 @@
+package ru.practicum.shareit.server.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedCacheTest {
+    private VersionedCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VersionedCache<>("names", "maximumSize=100");
+    }
+
+    @Test
+    void putIfUnchanged_ShouldCacheLoadWhenNothingChangedMeanwhile() {
+        long version = cache.version(1L);
+        cache.putIfUnchanged(1L, version, "loaded");
+
+        cache.updateAfterCommit(1L, value -> value + " and changed");
+
+        assertThat(cache.getAllPresent(List.of(1L, 2L))).containsOnlyKeys(1L).containsValue("loaded and changed");
+    }
+
+    @Test
+    void putIfUnchanged_ShouldDropLoadThatRacedWithChange() {
+        long version = cache.version(1L);
+        cache.updateAfterCommit(1L, value -> value + " and changed");
+        cache.putIfUnchanged(1L, version, "stale");
+
+        assertThat(cache.getAllPresent(List.of(1L))).isEmpty();
+
+        cache.putIfUnchanged(1L, cache.version(1L), "fresh");
+
+        assertThat(cache.getAllPresent(List.of(1L))).containsEntry(1L, "fresh");
+    }
+
+    @Test
+    void updateAfterCommit_WithoutChange_ShouldDropLoadedValue() {
+        cache.putIfUnchanged(1L, cache.version(1L), "loaded");
+        long version = cache.version(1L);
+
+        cache.updateAfterCommit(1L, null);
+        cache.putIfUnchanged(1L, version, "stale");
+
+        assertThat(cache.getAllPresent(List.of(1L))).isEmpty();
+    }
+}
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.server.comment.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.server.comment.dto.CommentDto;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
+import ru.practicum.shareit.server.comment.mapper.CommentMapperImpl;
+import ru.practicum.shareit.server.comment.model.Comment;
+import ru.practicum.shareit.server.comment.repository.CommentRepository;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.user.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ItemCommentCacheTest {
+    private static final int RECENT_LIMIT = 2;
+
+    private CommentRepository commentRepository;
+    private ItemCommentCache cache;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        cache = new ItemCommentCache(commentRepository, new CommentMapperImpl(), RECENT_LIMIT, "maximumSize=100");
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void getAll_ShouldLoadOnlyMissingItemsInOneQuery() {
+        when(commentRepository.findRecentByItemIds(List.of(1L), RECENT_LIMIT)).thenReturn(
+                rows(1, comment(10L, 1L, now)));
+        when(commentRepository.findRecentByItemIds(List.of(2L), RECENT_LIMIT)).thenReturn(List.of());
+        cache.get(1L);
+
+        Map<Long, ItemCommentsDto> result = cache.getAll(List.of(1L, 2L));
+
+        assertThat(result.get(1L).recent()).extracting(CommentDto::id).containsExactly(10L);
+        assertThat(result.get(2L).recent()).isEmpty();
+        verify(commentRepository).findRecentByItemIds(List.of(2L), RECENT_LIMIT);
+        verify(commentRepository, times(2)).findRecentByItemIds(anyCollection(), anyLong());
+    }
+
+    @Test
+    void getAll_ShouldOrderLoadedRowsNewestFirstAndKeepTheirTotal() {
+        when(commentRepository.findRecentByItemIds(List.of(1L), RECENT_LIMIT)).thenReturn(rows(3,
+                comment(11L, 1L, now.minusDays(1)),
+                comment(12L, 1L, now)));
+
+        ItemCommentsDto result = cache.get(1L);
+
+        assertThat(result.recent()).extracting(CommentDto::id).containsExactly(12L, 11L);
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    void append_ShouldPrependToCachedItemWithoutReloading() {
+        when(commentRepository.findRecentByItemIds(List.of(1L), RECENT_LIMIT)).thenReturn(
+                rows(1, comment(10L, 1L, now.minusDays(1))));
+        cache.get(1L);
+
+        cache.append(CommentDto.builder().id(11L).itemId(1L).created(now).text("new").build());
+        ItemCommentsDto result = cache.get(1L);
+
+        assertThat(result.recent()).extracting(CommentDto::id).containsExactly(11L, 10L);
+        assertThat(result.total()).isEqualTo(2);
+        verify(commentRepository, times(1)).findRecentByItemIds(anyCollection(), anyLong());
+    }
+
+    @Test
+    void append_ShouldKeepCapAndCountEveryComment() {
+        when(commentRepository.findRecentByItemIds(List.of(1L), RECENT_LIMIT)).thenReturn(rows(2,
+                comment(10L, 1L, now.minusDays(2)),
+                comment(11L, 1L, now.minusDays(1))));
+        cache.get(1L);
+
+        cache.append(CommentDto.builder().id(12L).itemId(1L).created(now).text("new").build());
+        ItemCommentsDto result = cache.get(1L);
+
+        assertThat(result.recent()).extracting(CommentDto::id).containsExactly(12L, 11L);
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    void getAll_ShouldNotCacheLoadThatRacedWithNewComment() {
+        when(commentRepository.findRecentByItemIds(List.of(1L), RECENT_LIMIT)).thenAnswer(invocation -> {
+            cache.append(CommentDto.builder().id(11L).itemId(1L).created(now).text("new").build());
+            return rows(1, comment(10L, 1L, now.minusDays(1)));
+        });
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(commentRepository, times(2)).findRecentByItemIds(anyCollection(), anyLong());
+    }
+
+    @Test
+    void evict_ShouldDropCachedItemSoNextReadReloads() {
+        when(commentRepository.findRecentByItemIds(List.of(1L), RECENT_LIMIT)).thenReturn(
+                rows(1, comment(10L, 1L, now)));
+        cache.get(1L);
+
+        cache.evict(1L);
+        cache.get(1L);
+
+        verify(commentRepository, times(2)).findRecentByItemIds(anyCollection(), anyLong());
+    }
+
+    private static Comment comment(Long id, Long itemId, LocalDateTime created) {
+        Item item = new Item();
+        item.setId(itemId);
+        User author = new User();
+        author.setId(100L);
+        author.setName("Author");
+        return new Comment(id, "comment " + id, item, author, created);
+    }
+
+    private static List<Object[]> rows(long total, Comment... comments) {
+        return Arrays.stream(comments)
+                .map(comment -> new Object[]{comment, total})
+                .toList();
+    }
+}
@@ -1,14 +1,20 @@
 package ru.practicum.shareit.server.comment.service;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.server.AllMappersTestConfig;
+import ru.practicum.shareit.server.comment.cache.ItemCommentCache;
+import ru.practicum.shareit.server.comment.dto.CommentCursor;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
 import ru.practicum.shareit.server.comment.model.Comment;
+import ru.practicum.shareit.server.comment.repository.CommentRepository;
 import ru.practicum.shareit.server.item.model.Item;
 import ru.practicum.shareit.server.user.entity.User;
 
@@ -18,9 +24,10 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static ru.practicum.shareit.server.persistence.QueryBudget.assertStatements;
 
 @DataJpaTest
-@Import({CommentServiceImpl.class, AllMappersTestConfig.class})
+@Import({CommentServiceImpl.class, ItemCommentCache.class, AllMappersTestConfig.class})
 class CommentServiceImplIntegrationTest {
 
     @Autowired
@@ -29,6 +36,9 @@ class CommentServiceImplIntegrationTest {
     @Autowired
     private CommentServiceImpl commentService;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
     private User owner;
     private User author;
     private Item item1;
@@ -92,7 +102,7 @@ class CommentServiceImplIntegrationTest {
 
     @Test
     void getCommentsForItem_ShouldReturnCommentsForSpecificItem() {
-        List<CommentDto> result = commentService.getCommentsForItem(item1.getId());
+        List<CommentDto> result = commentService.getCommentsForItem(item1.getId()).recent();
 
         assertThat(result).hasSize(2);
         assertThat(result)
@@ -118,30 +128,31 @@ class CommentServiceImplIntegrationTest {
         entityManager.persist(item3);
         entityManager.flush();
 
-        List<CommentDto> result = commentService.getCommentsForItem(item3.getId());
+        List<CommentDto> result = commentService.getCommentsForItem(item3.getId()).recent();
 
         assertThat(result).isEmpty();
     }
 
     @Test
     void getCommentsForItems_ShouldReturnCommentsForMultipleItems() {
-        Map<Long, List<CommentDto>> result = commentService.getCommentsForItems(
+        Map<Long, ItemCommentsDto> result = commentService.getCommentsForItems(
                 List.of(item1.getId(), item2.getId()));
 
         assertThat(result).hasSize(2);
 
-        assertThat(result.get(item1.getId())).hasSize(2);
-        assertThat(result.get(item1.getId()))
+        assertThat(result.get(item1.getId()).recent()).hasSize(2);
+        assertThat(result.get(item1.getId()).total()).isEqualTo(2);
+        assertThat(result.get(item1.getId()).recent())
                 .extracting("text")
                 .containsExactly("Very useful, thanks!", "Great item!");
 
-        assertThat(result.get(item2.getId())).hasSize(1);
-        assertThat(result.get(item2.getId()).getFirst().text()).isEqualTo("Not bad");
+        assertThat(result.get(item2.getId()).recent()).hasSize(1);
+        assertThat(result.get(item2.getId()).recent().getFirst().text()).isEqualTo("Not bad");
     }
 
     @Test
     void getCommentsForItems_WhenEmptyList_ShouldReturnEmptyMap() {
-        Map<Long, List<CommentDto>> result = commentService.getCommentsForItems(List.of());
+        Map<Long, ItemCommentsDto> result = commentService.getCommentsForItems(List.of());
 
         assertThat(result).isEmpty();
     }
@@ -156,7 +167,7 @@ class CommentServiceImplIntegrationTest {
         entityManager.persist(item3);
         entityManager.flush();
 
-        Map<Long, List<CommentDto>> result = commentService.getCommentsForItems(
+        Map<Long, ItemCommentsDto> result = commentService.getCommentsForItems(
                 List.of(item3.getId()));
 
         assertThat(result).isEmpty();
@@ -164,7 +175,7 @@ class CommentServiceImplIntegrationTest {
 
     @Test
     void getCommentsForItems_ShouldOrderCommentsByCreatedDesc() {
-        List<CommentDto> commentsForItem1 = commentService.getCommentsForItem(item1.getId());
+        List<CommentDto> commentsForItem1 = commentService.getCommentsForItem(item1.getId()).recent();
 
         assertThat(commentsForItem1).hasSize(2);
 
@@ -174,11 +185,48 @@ class CommentServiceImplIntegrationTest {
 
     @Test
     void getCommentsForItem_ShouldReturnCorrectCreatedDates() {
-        List<CommentDto> result = commentService.getCommentsForItem(item1.getId());
+        List<CommentDto> result = commentService.getCommentsForItem(item1.getId()).recent();
 
         assertThat(result).hasSize(2);
 
         assertThat(result.get(0).created()).isEqualTo(now.minusDays(1));
         assertThat(result.get(1).created()).isEqualTo(now.minusDays(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemComments_ShouldWalkPagesNewestFirst() {
+        Slice<CommentDto> firstPage = commentService.getItemComments(item1.getId(), null, 1);
+        Slice<CommentDto> secondPage = commentService.getItemComments(
+                item1.getId(), CommentCursor.of(firstPage.getContent().getLast()), 1);
+
+        assertThat(firstPage.getContent()).extracting("text").containsExactly("Very useful, thanks!");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting("text").containsExactly("Great item!");
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void findRecentByItemIds_ShouldReadOnlyTheNewestRowsOfEachItemWithTheirTotals() {
+        for (int i = 0; i < 3; i++) {
+            Comment comment = new Comment();
+            comment.setText("Older " + i);
+            comment.setItem(item1);
+            comment.setAuthor(author);
+            comment.setCreated(now.minusDays(10 + i));
+            entityManager.persist(comment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Object[]> rows = assertStatements(1,
+                () -> commentRepository.findRecentByItemIds(List.of(item1.getId(), item2.getId()), 2));
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows).extracting(row -> ((Comment) row[0]).getId())
+                .containsExactlyInAnyOrder(comment1.getId(), comment2.getId(), comment3.getId());
+        assertThat(rows).allSatisfy(row ->
+                assertThat(Hibernate.isInitialized(((Comment) row[0]).getAuthor())).isTrue());
+        assertThat(rows).extracting(row -> ((Comment) row[0]).getItem().getId() + "=" + row[1])
+                .containsOnly(item1.getId() + "=5", item2.getId() + "=1");
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.server.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.server.item.service.ItemService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ItemController.class)
+class ItemControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ItemService itemService;
+
+    @Test
+    void getItemComments_WithGarbageCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/items/1/comments")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemService, never()).getItemComments(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    void getItemComments_WithUndecodableCursorContent_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/items/1/comments")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("cursor", "bm90LWEtZGF0ZV8x"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemService, never()).getItemComments(anyLong(), any(), anyInt());
+    }
+}
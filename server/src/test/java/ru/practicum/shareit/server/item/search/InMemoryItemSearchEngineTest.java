@@ -0,0 +1,79 @@
+package ru.practicum.shareit.server.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class InMemoryItemSearchEngineTest {
+    private InMemoryItemSearchEngine searchEngine;
+
+    @BeforeEach
+    void setUp() {
+        searchEngine = new InMemoryItemSearchEngine(mock(ItemRepository.class));
+    }
+
+    @Test
+    void search_ShouldMatchTokenPrefixesIgnoringCase() {
+        searchEngine.index(item(1L, "Аккумуляторная дрель", "Дрель + аккумулятор", true));
+        searchEngine.index(item(2L, "Отвёртка", "Аккумуляторная отвёртка", true));
+
+        assertThat(searchEngine.search("аккУМУЛЯТОР", 0, 10)).containsExactly(1L, 2L);
+        assertThat(searchEngine.search("дрель", 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void search_ShouldPreferExactTokensOverPrefixes() {
+        searchEngine.index(item(1L, "Saws", "", true));
+        searchEngine.index(item(2L, "Saw", "", true));
+
+        assertThat(searchEngine.search("saw", 0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void index_ShouldReplaceOldTokensAndDropUnavailableItems() {
+        searchEngine.index(item(1L, "Ladder", "Three meters", true));
+        searchEngine.index(item(1L, "Stepladder", "Two meters", true));
+        searchEngine.index(item(2L, "Ladder", "Broken", true));
+        searchEngine.index(item(2L, "Ladder", "Broken", false));
+
+        assertThat(searchEngine.search("ladder", 0, 10)).isEmpty();
+        assertThat(searchEngine.search("step", 0, 10)).containsExactly(1L);
+        assertThat(searchEngine.search("three", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void search_ShouldSkipUnavailableItemsBeforePaging() {
+        searchEngine.index(item(1L, "Kayak", "", true));
+        searchEngine.index(item(2L, "Kayak", "", false));
+        searchEngine.index(item(3L, "Kayak", "", true));
+        searchEngine.index(item(4L, "Kayak", "", true));
+
+        assertThat(searchEngine.search("kayak", 0, 2)).containsExactly(1L, 3L);
+        assertThat(searchEngine.search("kayak", 2, 2)).containsExactly(4L);
+
+        searchEngine.index(item(2L, "Kayak", "", true));
+
+        assertThat(searchEngine.search("kayak", 0, 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void remove_ShouldDropItemFromResults() {
+        searchEngine.index(item(1L, "Tent", "Four people", true));
+        searchEngine.remove(1L);
+
+        assertThat(searchEngine.search("tent", 0, 10)).isEmpty();
+    }
+
+    private static Item item(Long id, String name, String description, boolean available) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        return item;
+    }
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.server.item.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.server.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.server.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.server.booking.repository.BookingRepository;
+import ru.practicum.shareit.server.booking.service.BookingService;
+import ru.practicum.shareit.server.item.dto.CreateItemDto;
+import ru.practicum.shareit.server.item.dto.ItemResponseDto;
+import ru.practicum.shareit.server.item.repository.ItemRepository;
+import ru.practicum.shareit.server.item.service.ItemService;
+import ru.practicum.shareit.server.user.entity.User;
+import ru.practicum.shareit.server.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Booking decisions commit for real here, so the index is updated by the after-commit hooks
+ * the same way it is in production.
+ */
+@SpringBootTest
+class ItemSearchAvailabilityTest {
+    private static final int ITEMS = 5;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User booker;
+    private List<Long> itemIds;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("owner");
+        booker = saveUser("booker");
+
+        itemIds = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            itemIds.add(itemService.createItem(
+                    new CreateItemDto("Projector " + i, "Full HD projector", owner.getId(), true, null),
+                    owner.getId()).id());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void bookingDecisions_ShouldKeepSearchPagesFullAndInSyncWithAvailability() {
+        Long bookedItemId = itemIds.getFirst();
+        LocalDateTime start = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.HOURS);
+        BookingResponseDto booking = bookingService.createBooking(
+                new BookingCreateDto(bookedItemId, start, start.plusDays(1)), booker.getId());
+
+        bookingService.manageBooking(owner.getId(), booking.id(), true);
+
+        assertThat(searchIds(0, 2)).containsExactly(itemIds.get(1), itemIds.get(2));
+        assertThat(searchIds(2, 2)).containsExactly(itemIds.get(3), itemIds.get(4));
+        assertThat(searchIds(4, 2)).isEmpty();
+
+        bookingService.cancelBooking(booking.id(), booker.getId());
+
+        assertThat(searchIds(0, 2)).containsExactly(itemIds.get(0), itemIds.get(1));
+        assertThat(searchIds(2, 2)).containsExactly(itemIds.get(2), itemIds.get(3));
+        assertThat(searchIds(4, 2)).containsExactly(itemIds.get(4));
+    }
+
+    private List<Long> searchIds(int from, int size) {
+        return itemService.searchItems("projector", owner.getId(), from, size).stream()
+                .map(ItemResponseDto::id)
+                .toList();
+    }
+
+    private User saveUser(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@search.test");
+        return userRepository.save(user);
+    }
+}
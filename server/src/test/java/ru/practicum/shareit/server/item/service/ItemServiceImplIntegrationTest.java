@@ -9,26 +9,38 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import ru.practicum.shareit.server.AllMappersTestConfig;
 import ru.practicum.shareit.server.booking.enums.BookingStatus;
+import ru.practicum.shareit.server.booking.index.ItemBookingProjection;
 import ru.practicum.shareit.server.booking.model.Booking;
+import ru.practicum.shareit.server.cache.EntityCacheConfig;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
+import ru.practicum.shareit.server.comment.dto.ItemCommentsDto;
 import ru.practicum.shareit.server.comment.model.Comment;
 import ru.practicum.shareit.server.comment.service.CommentService;
+import ru.practicum.shareit.server.item.dto.CreateItemDto;
+import ru.practicum.shareit.server.item.dto.ItemImportResultDto;
 import ru.practicum.shareit.server.item.dto.ItemResponseDto;
 import ru.practicum.shareit.server.item.exceptions.ItemNotFoundException;
+import ru.practicum.shareit.server.item.exceptions.UserNotFoundException;
 import ru.practicum.shareit.server.item.model.Item;
+import ru.practicum.shareit.server.item.search.InMemoryItemSearchEngine;
+import ru.practicum.shareit.server.request.model.Request;
 import ru.practicum.shareit.server.user.entity.User;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static ru.practicum.shareit.server.persistence.QueryBudget.assertStatements;
 
 @DataJpaTest
-@Import({ItemServiceImpl.class, AllMappersTestConfig.class})
+@Import({ItemServiceImpl.class, InMemoryItemSearchEngine.class, ItemBookingProjection.class,
+        EntityCacheConfig.class, AllMappersTestConfig.class})
 class ItemServiceImplIntegrationTest {
 
     @Autowired
@@ -37,6 +49,9 @@ class ItemServiceImplIntegrationTest {
     @Autowired
     private ItemServiceImpl itemService;
 
+    @Autowired
+    private InMemoryItemSearchEngine itemSearchEngine;
+
     @MockBean
     private CommentService commentService;
 
@@ -132,13 +147,13 @@ class ItemServiceImplIntegrationTest {
                 .build();
 
         when(commentService.getCommentsForItem(anyLong()))
-                .thenReturn(List.of());
+                .thenReturn(ItemCommentsDto.EMPTY);
     }
 
     @Test
     void getItemById_WhenOwnerRequests_ShouldReturnWithBookingsAndComments() {
         when(commentService.getCommentsForItem(item.getId()))
-                .thenReturn(List.of(commentDto));
+                .thenReturn(new ItemCommentsDto(List.of(commentDto), 1));
 
         ItemResponseDto result = itemService.getItemById(item.getId(), owner.getId());
 
@@ -164,7 +179,7 @@ class ItemServiceImplIntegrationTest {
     @Test
     void getItemById_WhenNonOwnerRequests_ShouldReturnWithoutBookingsButWithComments() {
         when(commentService.getCommentsForItem(item.getId()))
-                .thenReturn(List.of(commentDto));
+                .thenReturn(new ItemCommentsDto(List.of(commentDto), 1));
         ItemResponseDto result = itemService.getItemById(item.getId(), otherUser.getId());
 
         assertThat(result).isNotNull();
@@ -272,11 +287,12 @@ class ItemServiceImplIntegrationTest {
                 .build();
 
         when(commentService.getCommentsForItem(item.getId()))
-                .thenReturn(List.of(commentDto, commentDto2, commentDto3));
+                .thenReturn(new ItemCommentsDto(List.of(commentDto, commentDto2, commentDto3), 3));
 
         ItemResponseDto result = itemService.getItemById(item.getId(), owner.getId());
 
         assertThat(result.comments()).hasSize(3);
+        assertThat(result.commentCount()).isEqualTo(3);
         assertThat(result.comments().stream().toList().getFirst().text()).isEqualTo("Great item!");
         assertThat(result.comments().stream().toList().get(1).text()).isEqualTo("Excellent!");
         assertThat(result.comments().stream().toList().get(2).text()).isEqualTo("Very useful");
@@ -328,4 +344,135 @@ class ItemServiceImplIntegrationTest {
         assertThat(result.lastBooking()).isNull();
         assertThat(result.nextBooking()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserItems_ShouldReturnLastAndNextApprovedBookings() {
+        Item secondItem = createItem("Another Item", "No bookings", true);
+        entityManager.flush();
+
+        List<ItemResponseDto> result = List.copyOf(itemService.getUserItems(owner.getId()));
+
+        assertThat(result).extracting(ItemResponseDto::id).containsExactly(secondItem.getId(), item.getId());
+        assertThat(result.get(0).lastBooking()).isNull();
+        assertThat(result.get(0).nextBooking()).isNull();
+        assertThat(result.get(1).lastBooking()).isEqualTo(pastBooking.getBookingEndDate());
+        assertThat(result.get(1).nextBooking()).isEqualTo(futureBooking.getBookingStartDate());
+    }
+
+    @Test
+    void searchItems_ShouldRankNameMatchesFirstAndPaginate() {
+        Item drill = createItem("Drill", "Cordless", true);
+        Item hammer = createItem("Hammer", "Heavy enough to work as a drill stand", true);
+        createItem("Drill bits", "Set of ten", false);
+        entityManager.flush();
+        itemSearchEngine.afterSingletonsInstantiated();
+
+        List<ItemResponseDto> firstPage = itemService.searchItems("DRIL", owner.getId(), 0, 10);
+        List<ItemResponseDto> secondPage = itemService.searchItems("drill", owner.getId(), 1, 1);
+
+        assertThat(firstPage).extracting(ItemResponseDto::id).containsExactly(drill.getId(), hammer.getId());
+        assertThat(secondPage).extracting(ItemResponseDto::id).containsExactly(hammer.getId());
+    }
+
+    @Test
+    void searchItems_ShouldRequireEveryTerm() {
+        Item drill = createItem("Impact drill", "Cordless, two batteries", true);
+        createItem("Corded drill", "Needs a socket", true);
+        entityManager.flush();
+        itemSearchEngine.afterSingletonsInstantiated();
+
+        List<ItemResponseDto> result = itemService.searchItems("drill cordless", owner.getId(), 0, 10);
+
+        assertThat(result).extracting(ItemResponseDto::id).containsExactly(drill.getId());
+        assertThat(itemService.searchItems("  ", owner.getId(), 0, 10)).isEmpty();
+    }
+
+    @Test
+    void importItems_ShouldCreateValidEntriesAndReportOthers() {
+        Request request = entityManager.persist(Request.builder()
+                .description("Need a ladder")
+                .requester(otherUser)
+                .createdAt(Instant.now())
+                .build());
+        entityManager.flush();
+
+        ItemImportResultDto result = itemService.importItems(List.of(
+                new CreateItemDto("Ladder", "Three metres", null, true, request.getId()),
+                new CreateItemDto(" ", "No name", null, true, null),
+                new CreateItemDto("Saw", "For someone else", null, true, 999L),
+                new CreateItemDto("Drill", "x".repeat(101), null, true, null),
+                new CreateItemDto("Hammer", "Heavy", null, false, null)), owner.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.results()).extracting(ItemImportResultDto.Entry::error).containsExactly(
+                null, "Item name cannot be empty", "Request not found: 999",
+                "Item description must not be longer than 100 characters", null);
+
+        Item ladder = entityManager.find(Item.class, result.results().get(0).itemId());
+        assertThat(ladder.getOwner().getId()).isEqualTo(owner.getId());
+        assertThat(ladder.getRequest().getId()).isEqualTo(request.getId());
+        assertThat(itemService.getUserItems(owner.getId())).extracting(ItemResponseDto::name)
+                .containsExactly("Hammer", "Ladder", "Test Item");
+    }
+
+    @Test
+    void importItems_WhenOwnerNotFound_ShouldThrowException() {
+        List<CreateItemDto> items = List.of(new CreateItemDto("Ladder", "Three metres", null, true, null));
+
+        assertThatThrownBy(() -> itemService.importItems(items, 999L))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void getItemById_ShouldRunFixedNumberOfStatementsAndNoneOnceCached() {
+        entityManager.clear();
+
+        // the item, then the last and the next booking dates shown to the owner
+        ItemResponseDto asOwner = assertStatements(3, () -> itemService.getItemById(item.getId(), owner.getId()));
+        ItemResponseDto asOther = assertStatements(0,
+                () -> itemService.getItemById(item.getId(), otherUser.getId()));
+
+        assertThat(asOwner.nextBooking()).isEqualTo(futureBooking.getBookingStartDate());
+        assertThat(asOther.nextBooking()).isNull();
+    }
+
+    @Test
+    void getUserItems_ShouldRunFixedNumberOfStatementsWhateverTheNumberOfItems() {
+        for (int i = 0; i < 5; i++) {
+            createItem("Item " + i, "Description " + i, true);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Collection<ItemResponseDto> result = assertStatements(4, () -> itemService.getUserItems(owner.getId()));
+
+        assertThat(result).hasSize(6);
+    }
+
+    @Test
+    void searchItems_ShouldLoadMatchesInOneStatement() {
+        for (int i = 0; i < 5; i++) {
+            createItem("Drill " + i, "Cordless", true);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        itemSearchEngine.afterSingletonsInstantiated();
+
+        List<ItemResponseDto> result = assertStatements(1,
+                () -> itemService.searchItems("drill", owner.getId(), 0, 10));
+
+        assertThat(result).hasSize(5);
+    }
+
+    private Item createItem(String name, String description, boolean available) {
+        Item newItem = new Item();
+        newItem.setName(name);
+        newItem.setDescription(description);
+        newItem.setAvailable(available);
+        newItem.setOwner(owner);
+        return entityManager.persist(newItem);
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.server.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.server.user.entity.User;
+import ru.practicum.shareit.server.user.repository.UserRepository;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceMetricsConfig.class, PersistenceMetricsTest.MetricsConfig.class})
+class PersistenceMetricsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void repositoryMethod_ShouldCountItsStatementsAndRows() {
+        persistUser("first@example.com");
+        persistUser("second@example.com");
+        entityManager.flush();
+        entityManager.clear();
+
+        userRepository.findAll();
+        userRepository.findAll();
+
+        assertThat(meterRegistry.get("shareit.repository.statements")
+                .tags("repository", "UserRepository", "method", "findAll").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("shareit.repository.rows")
+                .tags("repository", "UserRepository", "method", "findAll").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void requestStatementsFilter_ShouldRecordStatementsPerEndpoint() throws Exception {
+        RequestStatementsFilter filter = new RequestStatementsFilter(meterRegistry,
+                new QueryBudgetProperties(true, Map.of("GET /users/{userId}", 1)), 20);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/users/{userId}");
+            QueryCounter.statementPrepared();
+        });
+
+        assertThat(meterRegistry.get("shareit.http.server.requests.statements")
+                .tags("method", "GET", "uri", "/users/{userId}").summary().totalAmount()).isEqualTo(1);
+    }
+
+    private void persistUser(String email) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        entityManager.persist(user);
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.server.persistence;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exact statement counts for service calls, so that a lazy association touched by a change shows up as a failing
+ * test instead of a slower endpoint. Statements are counted by {@link CountingStatementInspector}, registered for
+ * all tests in {@code application.properties}; flush and clear the persistence context before the call so that
+ * pending inserts and already loaded entities do not skew the count.
+ */
+public final class QueryBudget {
+    private QueryBudget() {
+    }
+
+    public static <T> T assertStatements(long expected, Supplier<T> call) {
+        QueryCounter.Snapshot before = QueryCounter.snapshot();
+        T result = call.get();
+        long statements = QueryCounter.snapshot().since(before).statements();
+
+        assertThat(statements)
+                .as("JDBC statements executed by the call")
+                .isEqualTo(expected);
+        return result;
+    }
+}
@@ -1,25 +1,34 @@
 package ru.practicum.shareit.server.request.service;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.server.AllMappersTestConfig;
+import ru.practicum.shareit.server.cache.EntityCacheConfig;
 import ru.practicum.shareit.server.item.exceptions.UserNotFoundException;
+import ru.practicum.shareit.server.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.server.item.model.Item;
 import ru.practicum.shareit.server.request.dto.RequestDto;
 import ru.practicum.shareit.server.request.model.Request;
 import ru.practicum.shareit.server.request.repository.RequestRepository;
 import ru.practicum.shareit.server.user.entity.User;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@DataJpaTest
-@Import({RequestServiceImpl.class, AllMappersTestConfig.class})
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RequestServiceImpl.class, EntityCacheConfig.class, AllMappersTestConfig.class})
 class RequestServiceImplIntegrationTest {
 
     @Autowired
@@ -198,4 +207,98 @@ class RequestServiceImplIntegrationTest {
         long timeDifference = Math.abs(Instant.now().toEpochMilli() - createdRequest.created().toEpochMilli());
         assertThat(timeDifference).isLessThan(2000);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findUserOwnRequests_ShouldLoadPageAndItsItemsInTwoQueries() {
+        User otherUser = createUser("Other", "other@example.com");
+        List<Request> requests = createRequestsWithItems(testUser, otherUser, 6);
+
+        for (int size : new int[]{2, 6}) {
+            Statistics statistics = statistics();
+
+            List<RequestDto> page = requestService.findUserOwnRequests(userId, newestFirst(size));
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(page).hasSize(size);
+        }
+
+        List<RequestDto> firstPage = requestService.findUserOwnRequests(userId, newestFirst(2));
+        assertThat(firstPage).extracting(RequestDto::id)
+                .containsExactly(requests.get(5).getId(), requests.get(4).getId());
+        assertThat(firstPage.get(0).requesterId()).isEqualTo(userId);
+        assertThat(firstPage.get(0).items()).extracting(ItemForRequestDto::name)
+                .containsExactly("Answer 5a", "Answer 5b");
+    }
+
+    @Test
+    void findOtherUsersRequests_ShouldLoadPageAndItsItemsInTwoQueries() {
+        User otherUser = createUser("Other", "other@example.com");
+        createRequestsWithItems(testUser, otherUser, 4);
+        Request withoutItems = createRequest(otherUser, "Nobody answered", 10);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        List<RequestDto> page = requestService.findOtherUsersRequests(otherUser.getId(), newestFirst(3));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page).hasSize(3);
+        assertThat(page).allSatisfy(request -> assertThat(request.items()).hasSize(2));
+        assertThat(requestService.findOtherUsersRequests(userId, newestFirst(3)))
+                .singleElement()
+                .satisfies(request -> {
+                    assertThat(request.id()).isEqualTo(withoutItems.getId());
+                    assertThat(request.items()).isEmpty();
+                });
+    }
+
+    private List<Request> createRequestsWithItems(User requester, User owner, int count) {
+        List<Request> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Request request = createRequest(requester, "Request " + i, i);
+            createItem(owner, request, "Answer " + i + "a");
+            createItem(owner, request, "Answer " + i + "b");
+            requests.add(request);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return requests;
+    }
+
+    private Request createRequest(User requester, String description, int minutesAfterEpoch) {
+        return entityManager.persist(Request.builder()
+                .description(description)
+                .requester(requester)
+                .createdAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(60L * minutesAfterEpoch))
+                .build());
+    }
+
+    private void createItem(User owner, Request request, String name) {
+        Item item = new Item();
+        item.setName(name);
+        item.setDescription("Answers " + request.getDescription());
+        item.setAvailable(true);
+        item.setOwner(owner);
+        item.setRequest(request);
+        entityManager.persist(item);
+    }
+
+    private User createUser(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        return entityManager.persist(user);
+    }
+
+    private Statistics statistics() {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static PageRequest newestFirst(int size) {
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import ru.practicum.shareit.server.AllMappersTestConfig;
+import ru.practicum.shareit.server.cache.EntityCacheConfig;
 import ru.practicum.shareit.server.item.service.ItemService;
 import ru.practicum.shareit.server.user.dto.UserCreateDto;
 import ru.practicum.shareit.server.user.dto.UserResponseDto;
@@ -16,9 +17,10 @@ import ru.practicum.shareit.server.user.enums.UserRole;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static ru.practicum.shareit.server.persistence.QueryBudget.assertStatements;
 
 @DataJpaTest
-@Import({UserServiceImpl.class, AllMappersTestConfig.class})
+@Import({UserServiceImpl.class, EntityCacheConfig.class, AllMappersTestConfig.class})
 class UserServiceImplIntegrationTest {
 
     @Autowired
@@ -53,6 +55,15 @@ class UserServiceImplIntegrationTest {
         assertThat(retrievedUser.name()).isEqualTo("Existing User");
     }
 
+    @Test
+    void getUserById_ShouldStayWithinItsQueryBudget() {
+        entityManager.clear();
+
+        // the user on the first read, the user cache afterwards
+        assertStatements(1, () -> userService.getUserById(existingUser.getId()));
+        assertStatements(0, () -> userService.getUserById(existingUser.getId()));
+    }
+
     @Test
     void getUserById_whenUserDoesNotExist_thenThrowException() {
         Long nonExistingUserId = 999L;
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.server.web;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingStateObservationConventionTest {
+    private final BookingStateObservationConvention convention = new BookingStateObservationConvention();
+
+    @Test
+    void getLowCardinalityKeyValues_ShouldTagKnownStatesAndCollapseOthers() {
+        assertThat(state("GET", "past")).isEqualTo("PAST");
+        assertThat(state("GET", "yesterday")).isEqualTo("invalid");
+        assertThat(state("GET", null)).isEqualTo("none");
+        assertThat(state("POST", "ALL")).isEqualTo("none");
+    }
+
+    @Test
+    void getLowCardinalityKeyValues_ShouldKeepSpringTags() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bookings/owner");
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request,
+                new MockHttpServletResponse());
+        context.setPathPattern("/bookings/owner");
+
+        assertThat(convention.getLowCardinalityKeyValues(context))
+                .contains(KeyValue.of("uri", "/bookings/owner"), KeyValue.of("method", "GET"),
+                        KeyValue.of("outcome", "SUCCESS"), KeyValue.of("state", "none"));
+    }
+
+    private String state(String method, String state) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/bookings");
+        if (state != null) {
+            request.setParameter("state", state);
+        }
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request,
+                new MockHttpServletResponse());
+        return convention.getLowCardinalityKeyValues(context).stream()
+                .filter(keyValue -> keyValue.getKey().equals("state"))
+                .findFirst()
+                .orElseThrow()
+                .getValue();
+    }
+}
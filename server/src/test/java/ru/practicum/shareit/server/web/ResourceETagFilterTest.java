@@ -0,0 +1,50 @@
+package ru.practicum.shareit.server.web;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceETagFilterTest {
+    private final ResourceETagFilter filter = new ResourceETagFilter();
+
+    @Test
+    void doFilter_ShouldTagSingleResourceReads() throws Exception {
+        assertThat(filter("GET", "/users/1").getHeader("ETag")).isNotNull();
+        assertThat(filter("GET", "/items/42").getHeader("ETag")).isNotNull();
+        assertThat(filter("GET", "/requests/7").getHeader("ETag")).isNotNull();
+    }
+
+    @Test
+    void doFilter_ShouldNotBufferListingsSearchesOrWrites() throws Exception {
+        assertThat(filter("GET", "/items").getHeader("ETag")).isNull();
+        assertThat(filter("GET", "/items/search").getHeader("ETag")).isNull();
+        assertThat(filter("GET", "/items/1/comments").getHeader("ETag")).isNull();
+        assertThat(filter("POST", "/items/import").getHeader("ETag")).isNull();
+    }
+
+    private MockHttpServletResponse filter(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletResponse> seen = new AtomicReference<>();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse chained) throws IOException {
+                seen.set(chained);
+                chained.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        // only tagged requests may have been buffered
+        assertThat(seen.get() instanceof ContentCachingResponseWrapper).isEqualTo(response.getHeader("ETag") != null);
+        return response;
+    }
+}